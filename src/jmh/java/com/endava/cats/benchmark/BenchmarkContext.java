@@ -0,0 +1,88 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.openapi.OpenApiUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import jakarta.enterprise.inject.Instance;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Builds the objects normally created by the CDI container, so that benchmarks can run outside Quarkus.
+ */
+public final class BenchmarkContext {
+    /**
+     * The largest contract bundled with the tests.
+     */
+    public static final String LARGE_CONTRACT = "src/test/resources/baserow.yaml";
+    private static final String VALID_GENERATORS_PACKAGE = "com.endava.cats.generator.format.impl";
+
+    private BenchmarkContext() {
+        //ntd
+    }
+
+    /**
+     * Reads the given contract.
+     *
+     * @param location the location of the contract
+     * @return the parsed contract
+     * @throws IOException if the contract cannot be read
+     */
+    public static OpenAPI readContract(String location) throws IOException {
+        return OpenApiUtils.readOpenApi(location);
+    }
+
+    /**
+     * Creates a global context initialized with the given contract, the same way it's done when running CATS.
+     *
+     * @param openAPI the contract
+     * @return an initialized global context
+     */
+    public static CatsGlobalContext globalContext(OpenAPI openAPI) {
+        CatsGlobalContext globalContext = new CatsGlobalContext();
+        globalContext.init(openAPI, new ProcessingArguments().getContentType(), new Properties());
+        return globalContext;
+    }
+
+    /**
+     * Creates a ValidDataFormat having all the format generators shipped with CATS.
+     *
+     * @return a ValidDataFormat
+     */
+    @SuppressWarnings("unchecked")
+    public static ValidDataFormat validDataFormat() {
+        List<ValidDataFormatGenerator> generators = loadValidGenerators();
+        Instance<ValidDataFormatGenerator> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.stream()).thenAnswer(invocation -> generators.stream());
+        return new ValidDataFormat(instance);
+    }
+
+    private static List<ValidDataFormatGenerator> loadValidGenerators() {
+        List<ValidDataFormatGenerator> generators = new ArrayList<>();
+        try {
+            URL packageUrl = Objects.requireNonNull(BenchmarkContext.class.getClassLoader().getResource(VALID_GENERATORS_PACKAGE.replace('.', '/')));
+            File[] classFiles = Objects.requireNonNull(new File(packageUrl.toURI()).listFiles((dir, name) -> name.endsWith(".class") && !name.contains("$")));
+            for (File classFile : classFiles) {
+                Class<?> clazz = Class.forName(VALID_GENERATORS_PACKAGE + "." + classFile.getName().replace(".class", ""));
+                if (ValidDataFormatGenerator.class.isAssignableFrom(clazz) && !Modifier.isAbstract(clazz.getModifiers())) {
+                    generators.add((ValidDataFormatGenerator) clazz.getDeclaredConstructor().newInstance());
+                }
+            }
+        } catch (URISyntaxException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to load format generators", e);
+        }
+        return generators;
+    }
+}
@@ -0,0 +1,52 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.benchmark.BenchmarkContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FuzzingDataFactoryBenchmark {
+
+    @Param(BenchmarkContext.LARGE_CONTRACT)
+    private String contract;
+
+    private OpenAPI openAPI;
+    private FuzzingDataFactory fuzzingDataFactory;
+
+    @Setup
+    public void setup() throws IOException {
+        openAPI = BenchmarkContext.readContract(contract);
+        FilesArguments filesArguments = Mockito.mock(FilesArguments.class);
+        Mockito.when(filesArguments.isNotUrlParam(Mockito.anyString())).thenReturn(true);
+        fuzzingDataFactory = new FuzzingDataFactory(filesArguments, new ProcessingArguments(), BenchmarkContext.globalContext(openAPI),
+                BenchmarkContext.validDataFormat(), Mockito.mock(FilterArguments.class));
+    }
+
+    @Benchmark
+    public void fromPathItemForAllPaths(Blackhole blackhole) {
+        openAPI.getPaths().forEach((path, pathItem) -> blackhole.consume(fuzzingDataFactory.fromPathItem(path, pathItem, openAPI)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.endava.cats.model.generator;
+
+import com.endava.cats.benchmark.BenchmarkContext;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenAPIModelGeneratorBenchmark {
+
+    @Param(BenchmarkContext.LARGE_CONTRACT)
+    private String contract;
+
+    private CatsGlobalContext globalContext;
+    private ValidDataFormat validDataFormat;
+    private List<String> schemaNames;
+
+    @Setup
+    public void setup() throws IOException {
+        globalContext = BenchmarkContext.globalContext(BenchmarkContext.readContract(contract));
+        validDataFormat = BenchmarkContext.validDataFormat();
+        schemaNames = List.copyOf(globalContext.getSchemaMap().keySet());
+    }
+
+    @Benchmark
+    public void generateAllSchemas(Blackhole blackhole) {
+        for (String schemaName : schemaNames) {
+            OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, true, 3, false);
+            blackhole.consume(generator.generate(schemaName));
+        }
+    }
+}
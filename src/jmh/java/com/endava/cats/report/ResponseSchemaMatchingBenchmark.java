@@ -0,0 +1,78 @@
+package com.endava.cats.report;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the matching of response fields against a documented response schema, as done by TestCaseListener for each response.
+ * The schema is compiled once per contract response, so compiling and matching are measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSchemaMatchingBenchmark {
+    private static final String RESPONSE_SCHEMA = """
+            {"id": 1, "name": "string", "status": "ACTIVE",
+             "address": {"street": "string", "number": 1, "city": {"name": "string", "zip": "string"}},
+             "tags": [{"name": "string", "value": 1}], "metadata": {"created": "string", "updated": "string", "version": 1}}
+            """;
+    private static final String RESPONSE_BODY = """
+            {"id": 10, "name": "cats", "status": "ACTIVE",
+             "address": {"street": "Main Street", "number": 10, "city": {"name": "Bucharest", "zip": "010101"}},
+             "tags": [{"name": "first", "value": 1}, {"name": "second", "value": 2}], "metadata": {"created": "2024-01-01", "version": 7, "undocumented": true}}
+            """;
+
+    private ResponseSchemaIndex responseSchemaIndex;
+    private List<String> responseFieldNames;
+
+    @Setup
+    public void setup() {
+        responseSchemaIndex = ResponseSchemaIndex.compile(RESPONSE_SCHEMA);
+        responseFieldNames = new ArrayList<>();
+        collectLeafNames(JsonParser.parseString(RESPONSE_BODY), "ROOT", responseFieldNames);
+    }
+
+    private static void collectLeafNames(JsonElement element, String name, List<String> names) {
+        if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                collectLeafNames(entry.getValue(), entry.getKey(), names);
+            }
+        } else {
+            names.add(name);
+        }
+    }
+
+    @Benchmark
+    public ResponseSchemaIndex compile() {
+        return ResponseSchemaIndex.compile(RESPONSE_SCHEMA);
+    }
+
+    @Benchmark
+    public int mentions() {
+        int mentioned = 0;
+        for (String name : responseFieldNames) {
+            if (responseSchemaIndex.mentions(name)) {
+                mentioned++;
+            }
+        }
+        return mentioned;
+    }
+}
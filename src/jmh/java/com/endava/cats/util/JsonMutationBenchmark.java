@@ -0,0 +1,45 @@
+package com.endava.cats.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMutationBenchmark {
+    private static final String PAYLOAD = """
+            {
+              "id": 123,
+              "name": "cats",
+              "address": {"street": "Main Street", "number": 10, "city": {"name": "Bucharest", "zip": "010101"}},
+              "tags": [{"name": "first", "value": 1}, {"name": "second", "value": 2}, {"name": "third", "value": 3}],
+              "metadata": {"created": "2024-01-01T10:00:00Z", "updated": "2024-01-02T10:00:00Z", "version": 7}
+            }
+            """;
+
+    @Param({"name", "address#city#zip", "tags[*]#name"})
+    private String field;
+
+    @Benchmark
+    public FuzzingResult justReplaceField() {
+        return CatsUtil.justReplaceField(PAYLOAD, field, "fuzzed");
+    }
+
+    @Benchmark
+    public String deleteNode() {
+        return JsonUtils.deleteNode(PAYLOAD, field);
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.interceptor.InvocationContext;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -59,9 +60,15 @@ public class DryRunAspect {
     /**
      * Doesn't do anything.
      *
-     * @return empty CatsResponse
+     * @param context invocation context
+     * @return empty CatsResponse, or an already completed future holding an empty CatsResponse for asynchronous calls
      */
-    public Object dontInvokeService() {
+    /*the future is handed back as the result of the intercepted call, so its caller handles it; it is already completed and never fails*/
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public Object dontInvokeService(InvocationContext context) {
+        if (CompletableFuture.class.isAssignableFrom(context.getMethod().getReturnType())) {
+            return CompletableFuture.completedFuture(CatsResponse.empty());
+        }
         return CatsResponse.empty();
     }
 
@@ -136,7 +143,7 @@ public class DryRunAspect {
                 return startSession(context);
             }
             if (context.getMethod().getName().startsWith("call")) {
-                return dontInvokeService();
+                return dontInvokeService(context);
             }
             if (context.getMethod().getName().startsWith("getErrors")) {
                 return 0;
@@ -18,6 +18,20 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--adaptiveRateLimit"},
+            description = "Adjusts the request rate based on the service feedback. The rate starts from @|bold --minRequestsPerMinute|@ and increases up to @|bold --maxRequestsPerMinute|@ while the p95 response time stays under @|bold --targetResponseTimeInMs|@. It backs off on 429 and 503 responses, @|bold Retry-After|@ headers and connection errors")
+    private boolean adaptiveRateLimit;
+
+    @CommandLine.Option(names = {"--minRequestsPerMinute"},
+            description = "Minimum number of requests per minute when using @|bold --adaptiveRateLimit|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "60")
+    private int minRequestsPerMinute = 60;
+
+    @CommandLine.Option(names = {"--targetResponseTimeInMs"},
+            description = "The p95 response time under which the request rate is increased when using @|bold --adaptiveRateLimit|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1000")
+    private long targetResponseTimeInMs = 1000;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -33,6 +47,31 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxInFlight"},
+            description = "Maximum number of HTTP requests that can be in flight at the same time when fuzzers run concurrently. A value of 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int maxInFlight;
+
+    @CommandLine.Option(names = {"--connectionPoolSize"},
+            description = "Maximum number of idle connections kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int connectionPoolSize = 10;
+
+    @CommandLine.Option(names = {"--maxRequestsPerHost"},
+            description = "Maximum number of concurrent requests dispatched to the same host by the HTTP client. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "5")
+    private int maxRequestsPerHost = 5;
+
+    @CommandLine.Option(names = {"--maxResponseBodyBytes"},
+            description = "Maximum number of bytes from each response body kept in memory. The rest of the body is still read to compute the response length, words and lines, but it's discarded. A value of 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private long maxResponseBodyBytes;
+
+    @CommandLine.Option(names = {"--pipelineDepth"},
+            description = "Number of requests an executor can send ahead before reporting the results of the earlier ones. Results are still reported in test case order. A value of 1 means requests are sent sequentially. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int pipelineDepth = 1;
+
     @CommandLine.Option(names = {"--userAgent"},
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline cats/${app.version}|@")
     private String userAgent;
@@ -78,6 +117,24 @@ public class ApiArguments {
         }
     }
 
+    /**
+     * Checks if there is a limit for the number of concurrent in flight requests.
+     *
+     * @return true if --maxInFlight is bigger than 0, false otherwise
+     */
+    public boolean isMaxInFlightLimited() {
+        return maxInFlight > 0;
+    }
+
+    /**
+     * Checks if executors should send requests asynchronously, keeping more than one request in flight.
+     *
+     * @return true if --pipelineDepth is bigger than 1, false otherwise
+     */
+    public boolean isPipelined() {
+        return pipelineDepth > 1;
+    }
+
     /**
      * Returns the full user agent, appending the testId and the fuzzer name.
      *
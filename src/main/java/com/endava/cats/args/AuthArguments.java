@@ -48,9 +48,15 @@ public class AuthArguments {
     private String authRefreshScript = "";
 
     @CommandLine.Option(names = {"--authRefreshInterval", "--ari"},
-            description = "Amount of time in seconds after which to get new auth credentials")
+            description = "Amount of time in seconds after which to get new auth credentials. " +
+                    "New credentials are fetched in the background, slightly ahead of each interval")
     private int authRefreshInterval;
 
+    @CommandLine.Option(names = {"--authRefreshOnErrors"},
+            description = "Number of 401/403 responses after which to get new auth credentials in the background, ahead of the next --authRefreshInterval. " +
+                    "The count is reset each time credentials are refreshed")
+    private int authRefreshOnErrors;
+
 
     /**
      * Checks if proxy details were supplied via the {@code --proxyXXX} arguments.
@@ -103,12 +109,13 @@ public class AuthArguments {
     }
 
     /**
-     * Creates a Map with the following elements "auth_script"=--authRefreshScript argument
-     * and "auth_refresh"=--authRefreshInterval.
+     * Creates a Map with the following elements "auth_script"=--authRefreshScript argument,
+     * "auth_refresh"=--authRefreshInterval and "auth_refresh_on_errors"=--authRefreshOnErrors.
      *
      * @return a Map with auth refresh details
      */
     public Map<String, String> getAuthScriptAsMap() {
-        return Map.of("auth_script", this.getAuthRefreshScript(), "auth_refresh", String.valueOf(getAuthRefreshInterval()));
+        return Map.of("auth_script", this.getAuthRefreshScript(), "auth_refresh", String.valueOf(getAuthRefreshInterval()),
+                "auth_refresh_on_errors", String.valueOf(getAuthRefreshOnErrors()));
     }
 }
@@ -0,0 +1,18 @@
+package com.endava.cats.args;
+
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.Setter;
+import picocli.CommandLine;
+
+/**
+ * Holds the arguments related to caching the parsed contract. Shared by all commands reading an OpenAPI contract.
+ */
+@Singleton
+@Getter
+@Setter
+public class ContractCacheArguments {
+    @CommandLine.Option(names = {"--contractCache"},
+            description = "Folder used to cache the parsed contract between runs. The cached contract is reused as long as the contract and the local files it references don't change. Remote contracts are not cached")
+    private String contractCache;
+}
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Holds all arguments related to different files used by CATS like: headers, reference data, etc.
@@ -34,11 +35,18 @@ import java.util.Properties;
 @Singleton
 public class FilesArguments {
     private static final String ALL = "all";
+    private static final String MAX_REQUESTS_PER_MINUTE = "maxRequestsPerMinute";
+    private static final String MAX_IN_FLIGHT = "maxInFlight";
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private Map<String, Map<String, Object>> headers;
     private Map<String, Map<String, Object>> queryParams;
     private Map<String, Map<String, Object>> refData;
+    private Map<String, Map<String, Object>> rateLimits = new HashMap<>();
     private List<String> urlParams;
+    private final Map<String, Map<String, Object>> mergedHeaders = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> mergedQueryParams = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> mergedRefData = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> mergedRateLimits = new ConcurrentHashMap<>();
 
     @Getter
     private Properties fuzzConfigProperties;
@@ -104,6 +112,13 @@ public class FilesArguments {
     Map<String, Object> refDataArguments;
 
 
+    @CommandLine.Option(names = {"--rateLimits"},
+            description = "Specifies the file with per-path request rates and concurrency limits. Each path can have a @|bold maxRequestsPerMinute|@ and a @|bold maxInFlight|@ entry. " +
+                    "Limits under the @|bold all|@ key apply to every path which doesn't define the same limit. Per-path limits are enforced in addition to @|bold --maxRequestsPerMinute|@ and @|bold --maxInFlight|@")
+    @Getter
+    @Setter
+    private File rateLimitsFile;
+
     @CommandLine.Option(names = {"--functionalFuzzerFile"},
             description = "Specifies the file used by the @|bold FunctionalFuzzer|@ that will be used to create user-supplied payloads and tests")
     @Getter
@@ -131,7 +146,7 @@ public class FilesArguments {
 
 
     /**
-     * Loads all supplied files for --securityFuzzerFile, --customFuzzerFile, --refData, --urlParams and --headers.
+     * Loads all supplied files for --securityFuzzerFile, --customFuzzerFile, --refData, --urlParams, --headers and --rateLimits.
      *
      * @throws IOException if something happens during file processing
      */
@@ -142,6 +157,7 @@ public class FilesArguments {
         loadURLParams();
         loadHeaders();
         loadQueryParams();
+        loadRateLimits();
         loadFuzzConfigProperties();
         loadMutators();
     }
@@ -184,6 +200,7 @@ public class FilesArguments {
             existingValue.putAll(newValue);
             return existingValue;
         });
+        mergedRefData.clear();
     }
 
     /**
@@ -197,6 +214,30 @@ public class FilesArguments {
             existingValue.putAll(newValue);
             return existingValue;
         });
+        mergedQueryParams.clear();
+    }
+
+    /**
+     * Loads the supplied rate limits file into a Map. Limits must be positive numbers.
+     *
+     * @throws IOException if something happens while reading the file
+     */
+    public void loadRateLimits() throws IOException {
+        Map<String, Map<String, Object>> fromFile = this.loadFileAsMapOfMapsOfStrings(rateLimitsFile, "Rate Limits");
+        try {
+            fromFile.forEach((path, limits) -> Optional.ofNullable(limits).orElse(Collections.emptyMap()).forEach((name, value) -> {
+                if (!MAX_REQUESTS_PER_MINUTE.equals(name) && !MAX_IN_FLIGHT.equals(name)) {
+                    throw new IllegalArgumentException("Unknown rate limit %s for path %s. Supported limits: %s, %s".formatted(name, path, MAX_REQUESTS_PER_MINUTE, MAX_IN_FLIGHT));
+                }
+                if (toLimit(value) <= 0) {
+                    throw new IllegalArgumentException("Rate limit %s for path %s must be a positive number, got %s".formatted(name, path, value));
+                }
+            }));
+        } catch (IllegalArgumentException e) {
+            throw new CatsException("Invalid Rate Limits file. " + e.getMessage(), e);
+        }
+        this.rateLimits = fromFile;
+        mergedRateLimits.clear();
     }
 
     /**
@@ -232,6 +273,7 @@ public class FilesArguments {
                 return mergedMap;
             });
         }
+        mergedHeaders.clear();
     }
 
     /**
@@ -287,10 +329,10 @@ public class FilesArguments {
      * The map keys are the contract paths or {@code all} if headers are applied to all paths.
      *
      * @param path the current path
-     * @return a Map representation of the --headers file with paths being the Map keys
+     * @return an unmodifiable Map representation of the --headers file with paths being the Map keys
      */
     public Map<String, Object> getHeaders(String path) {
-        return mergePathAndAll(headers, path);
+        return getMergedView(mergedHeaders, headers, path);
     }
 
     /**
@@ -299,10 +341,10 @@ public class FilesArguments {
      * It returns the reference data for both the given path and the {@code all} key.
      *
      * @param currentPath the current API path
-     * @return a Map with the supplied --refData
+     * @return an unmodifiable Map with the supplied --refData
      */
     public Map<String, Object> getRefData(String currentPath) {
-        return mergePathAndAll(refData, currentPath);
+        return getMergedView(mergedRefData, refData, currentPath);
     }
 
     /**
@@ -310,10 +352,52 @@ public class FilesArguments {
      * to the given path as well as the ALL entry.
      *
      * @param path the given path
-     * @return a key-value map with all additional query params
+     * @return an unmodifiable key-value map with all additional query params
      */
     public Map<String, Object> getAdditionalQueryParamsForPath(String path) {
-        return mergePathAndAll(queryParams, path);
+        return getMergedView(mergedQueryParams, queryParams, path);
+    }
+
+    /**
+     * Returns the maximum number of requests per minute supplied in the --rateLimits file for the given path or the {@code all} key.
+     *
+     * @param path the contract path
+     * @return the maximum number of requests per minute or 0 if the path is not limited
+     */
+    public int getMaxRequestsPerMinute(String path) {
+        return toLimit(getMergedView(mergedRateLimits, rateLimits, path).get(MAX_REQUESTS_PER_MINUTE));
+    }
+
+    /**
+     * Returns the maximum number of concurrent requests supplied in the --rateLimits file for the given path or the {@code all} key.
+     *
+     * @param path the contract path
+     * @return the maximum number of concurrent requests or 0 if the path is not limited
+     */
+    public int getMaxInFlight(String path) {
+        return toLimit(getMergedView(mergedRateLimits, rateLimits, path).get(MAX_IN_FLIGHT));
+    }
+
+    private static int toLimit(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Merged views are computed once per path, as they are requested for every test case. The views are cleared when the
+     * corresponding files are loaded again.
+     */
+    private static Map<String, Object> getMergedView(Map<String, Map<String, Object>> mergedViews, Map<String, Map<String, Object>> collection, String path) {
+        if (path == null) {
+            return Collections.unmodifiableMap(mergePathAndAll(collection, null));
+        }
+        return mergedViews.computeIfAbsent(path, key -> Collections.unmodifiableMap(mergePathAndAll(collection, key)));
     }
 
     /**
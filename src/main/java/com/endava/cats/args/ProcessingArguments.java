@@ -24,6 +24,11 @@ public class ProcessingArguments {
             description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ fieldsFuzzingStrategy")
     private int maxFieldsToRemove;
 
+    @CommandLine.Option(names = {"--maxFieldsCombinations"},
+            description = "The maximum number of fields combinations used by the @|bold RemoveFieldsFuzzer|@. When the @|bold,underline fieldsFuzzingStrategy|@ produces more combinations, " +
+                    "a random sample of this size is used instead. A value of 0 means all combinations are used. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxFieldsCombinations;
+
     @CommandLine.Option(names = {"--edgeSpacesStrategy"},
             description = "This can be either @|bold,underline VALIDATE_AND_TRIM|@ or @|bold,underline TRIM_AND_VALIDATE|@. It can be used to specify what CATS should expect when sending trailing and leading spaces valid values within fields. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private TrimmingStrategy edgeSpacesStrategy = TrimmingStrategy.TRIM_AND_VALIDATE;
@@ -86,6 +91,27 @@ public class ProcessingArguments {
             description = "If set to true, it will use the default values when generating examples. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean useDefaults = true;
 
+    @CommandLine.Option(names = {"--parallelism"},
+            description = "The number of fuzzers that can run concurrently. When bigger than 1, fuzzers are scheduled per path, HTTP method and fuzzer on a bounded pool of workers. " +
+                    "Second phase fuzzers are still run only after all first phase fuzzers finished for a given path. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int parallelism = 1;
+
+    @CommandLine.Option(names = {"--virtualThreads"},
+            description = "Run each fuzzer on its own virtual thread, per path and HTTP method, when running on Java 21 or above, falling back to platform threads on older versions. " +
+                    "A fuzzer still sends its test cases one after another, so the number of requests in flight is bounded by the number of scheduled fuzzers and not by @|bold --parallelism|@. " +
+                    "Use @|bold --maxInFlight|@ to cap the number of concurrent requests. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean virtualThreads;
+
+    @CommandLine.Option(names = {"--fuzzingDataParallelism"},
+            description = "The number of workers building fuzzing data (payloads, oneOf/anyOf combinations, allOf merging) for all selected paths in parallel, ahead of fuzzing. " +
+                    "Fuzzing starts with the first path as soon as its data is ready. A value of 0 builds the fuzzing data of each path right before fuzzing it. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int fuzzingDataParallelism;
+
+    @CommandLine.Option(names = {"--generatedValuesPoolSize"},
+            description = "The number of values matching each pattern from the contract which are generated in the background, ahead of fuzzing. " +
+                    "Generating values for fields with patterns then takes them from the pool instead of generating them on the spot. A value of 0 disables the pools. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int generatedValuesPoolSize;
+
     /**
      * Represents a wildcard pattern for JSON content type with optional parameters.
      */
@@ -112,6 +138,15 @@ public class ProcessingArguments {
         return true;
     }
 
+    /**
+     * Checks if fuzzers should be run concurrently.
+     *
+     * @return true if --parallelism is bigger than 1 or --virtualThreads is enabled, false otherwise
+     */
+    public boolean isParallelExecution() {
+        return parallelism > 1 || virtualThreads;
+    }
+
     /**
      * Gets the supplied content type of "application/json" and "application/x-www-form-urlencoded" if not supplied.
      *
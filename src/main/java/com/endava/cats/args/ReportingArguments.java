@@ -51,9 +51,20 @@ public class ReportingArguments {
     private boolean timestampReports;
 
     @CommandLine.Option(names = {"--reportFormat"},
-            description = "The format of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. You can use @|bold,underline HTML_ONLY|@ if you want the report to not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies.")
+            description = "The format of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. You can use @|bold,underline HTML_ONLY|@ if you want the report to not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies. " +
+                    "You can use @|bold,underline HTML_STORE|@ to write all test cases in a single indexed file instead of one HTML and one JSON file per test case. " +
+                    "This is useful for very large runs, but the report must be served over HTTP in order to open individual test cases.")
     private ReportFormat reportFormat = ReportFormat.HTML_JS;
 
+    @CommandLine.Option(names = {"--reportWriterQueueSize"},
+            description = "When greater than 0, individual test cases are written to the report by a background writer, holding at most this number of test cases in memory. " +
+                    "If the writer falls behind, fuzzing waits until there is room in the queue. When 0, test cases are written as soon as they finish. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int reportWriterQueueSize;
+
+    @CommandLine.Option(names = {"--storeSummariesOnDisk"},
+            description = "Keep test case summaries in a temporary file rather than in memory until the summary report is written. Useful for very long runs. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private boolean storeSummariesOnDisk;
+
     @CommandLine.Option(names = {"-o", "--output"},
             description = "The output folder of the CATS report. Default: @|bold,underline cats-report|@ in the current directory.")
     private String outputReportFolder = "cats-report";
@@ -194,7 +205,11 @@ public class ReportingArguments {
         /**
          * Generates a report in JUnit format.
          */
-        JUNIT
+        JUNIT,
+        /**
+         * Generates a report in HTML format with JavaScript support, keeping all test cases in a single indexed file.
+         */
+        HTML_STORE
     }
 
     /**
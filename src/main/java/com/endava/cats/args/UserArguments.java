@@ -1,6 +1,7 @@
 package com.endava.cats.args;
 
 import com.endava.cats.exception.CatsException;
+import com.endava.cats.util.WordListRegistry;
 import jakarta.inject.Singleton;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,9 +9,6 @@ import picocli.CommandLine;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -35,7 +33,7 @@ public class UserArguments {
      */
     public List<String> getWordsAsList() {
         try {
-            return Files.readAllLines(Path.of(words.getAbsolutePath()), StandardCharsets.UTF_8);
+            return WordListRegistry.lines(words.toPath());
         } catch (IOException e) {
             throw new CatsException("Unable to process the --words file. Either the file does not exist or it's not reachable", e);
         }
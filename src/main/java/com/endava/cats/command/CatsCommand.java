@@ -3,6 +3,7 @@ package com.endava.cats.command;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.AuthArguments;
 import com.endava.cats.args.CheckArguments;
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.FilterArguments;
 import com.endava.cats.args.IgnoreArguments;
@@ -15,12 +16,15 @@ import com.endava.cats.exception.CatsException;
 import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
+import com.endava.cats.generator.simple.GeneratedValuesPool;
+import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.ConcurrencyUtils;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
@@ -32,18 +36,26 @@ import jakarta.inject.Inject;
 import lombok.Getter;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.fusesource.jansi.Ansi;
+import org.slf4j.MDC;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
@@ -119,6 +131,10 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Inject
     @CommandLine.ArgGroup(heading = "%n@|bold,underline API Options:|@%n", exclusive = false)
     ApiArguments apiArguments;
+
+    @Inject
+    @CommandLine.Mixin
+    ContractCacheArguments contractCacheArguments;
     @Inject
     @CommandLine.ArgGroup(heading = "%n@|bold,underline Authentication Options:|@%n", exclusive = false)
     AuthArguments authArgs;
@@ -275,14 +291,115 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
+        GeneratedValuesPool generatedValuesPool = this.createGeneratedValuesPool();
+        ExecutorService fuzzingDataExecutor = this.createFuzzingDataExecutor();
+        try {
+            FuzzingDataProvider fuzzingDataProvider = this.createFuzzingDataProvider(openAPI, suppliedPaths, fuzzingDataExecutor);
+
+            if (processingArguments.isParallelExecution()) {
+                this.startFuzzingInParallel(openAPI, suppliedPaths, fuzzingDataProvider);
+                return;
+            }
+
+            for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    this.fuzzPath(entry, fuzzingDataProvider);
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
+            }
+        } finally {
+            Optional.ofNullable(fuzzingDataExecutor).ifPresent(ExecutorService::shutdownNow);
+            Optional.ofNullable(generatedValuesPool).ifPresent(pool -> {
+                StringGenerator.useValuesPool(null);
+                pool.close();
+            });
+        }
+    }
+
+    private void startFuzzingInParallel(OpenAPI openAPI, List<String> suppliedPaths, FuzzingDataProvider fuzzingDataProvider) {
+        ExecutorService fuzzingExecutor = this.createFuzzingExecutor();
+        Map<String, String> mdcContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Collections.emptyMap());
+        List<CompletableFuture<Void>> pathsInProgress = new ArrayList<>();
+        try {
+            for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    pathsInProgress.add(this.fuzzPathInParallel(entry, fuzzingDataProvider, fuzzingExecutor, mdcContext));
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
+            }
+            CompletableFuture.allOf(pathsInProgress.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        } finally {
+            fuzzingExecutor.shutdown();
+        }
+    }
 
+    private static RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return e;
+    }
+
+    /**
+     * Values for the patterns of all the schemas are generated in the background, so that fuzzers can take them from the pool when needed.
+     */
+    private GeneratedValuesPool createGeneratedValuesPool() {
+        if (processingArguments.getGeneratedValuesPoolSize() <= 0) {
+            return null;
+        }
+        GeneratedValuesPool pool = new GeneratedValuesPool(processingArguments.getGeneratedValuesPoolSize(),
+                new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+        pool.warmUp(globalContext.getSchemaMap().values());
+        StringGenerator.useValuesPool(pool);
+        return pool;
+    }
+
+    private ExecutorService createFuzzingDataExecutor() {
+        if (processingArguments.getFuzzingDataParallelism() <= 0) {
+            return null;
+        }
+        logger.debug("Building fuzzing data using {} parallel workers", processingArguments.getFuzzingDataParallelism());
+        return new ForkJoinPool(processingArguments.getFuzzingDataParallelism());
+    }
+
+    /**
+     * When fuzzing data is built in parallel, building starts for all selected paths, in the order they are fuzzed.
+     * Each path then waits only for its own fuzzing data, so fuzzing starts as soon as the first path is ready.
+     */
+    private FuzzingDataProvider createFuzzingDataProvider(OpenAPI openAPI, List<String> suppliedPaths, ExecutorService fuzzingDataExecutor) {
+        /* registered upfront in both modes, so the fuzzing data built for a path does not depend on the paths built before it */
+        globalContext.registerDiscriminatorsAndAdditionalProperties(openAPI);
+        if (fuzzingDataExecutor == null) {
+            return pathItemEntry -> fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        }
+        Map<String, String> mdcContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Collections.emptyMap());
+        Map<String, CompletableFuture<List<FuzzingData>>> fuzzingDataPerPath = new ConcurrentHashMap<>();
         for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
             if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
-            } else {
-                logger.skip("Skipping path {}", entry.getKey());
+                fuzzingDataPerPath.put(entry.getKey(), CompletableFuture.supplyAsync(() -> this.buildFuzzingDataWithMdcContext(entry, openAPI, mdcContext), fuzzingDataExecutor));
             }
         }
+        return pathItemEntry -> {
+            try {
+                /* each path is fuzzed once, so its data is released as soon as it is handed over */
+                return fuzzingDataPerPath.remove(pathItemEntry.getKey()).join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        };
+    }
+
+    private List<FuzzingData> buildFuzzingDataWithMdcContext(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI, Map<String, String> mdcContext) {
+        MDC.setContextMap(mdcContext);
+        try {
+            return fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        } finally {
+            MDC.clear();
+        }
     }
 
     private LinkedHashSet<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI) {
@@ -301,7 +418,7 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     OpenAPI createOpenAPI() throws IOException {
         String finishMessage = ansi().fgGreen().a("Finished parsing the contract in {} ms").reset().toString();
         long t0 = System.currentTimeMillis();
-        OpenAPI openAPI = OpenApiUtils.readOpenApi(apiArguments.getContract());
+        OpenAPI openAPI = OpenApiUtils.readOpenApi(apiArguments.getContract(), contractCacheArguments.getContractCache());
         logger.debug(finishMessage, (System.currentTimeMillis() - t0));
         return openAPI;
     }
@@ -332,15 +449,43 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         logger.config(ansi().bold().a("Total number of OpenAPI operations: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(nofOfOperations));
     }
 
-    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, FuzzingDataProvider fuzzingDataProvider) {
+        Optional<PathFuzzingPlan> fuzzingPlan = this.createPathFuzzingPlan(pathItemEntry, fuzzingDataProvider);
+
+        fuzzingPlan.ifPresent(plan -> {
+            this.runFuzzers(plan.fuzzingData(), plan.firstPhaseFuzzers());
+            this.runFuzzers(plan.fuzzingData(), filterArguments.getSecondPhaseFuzzers());
+        });
+    }
+
+    private ExecutorService createFuzzingExecutor() {
+        if (processingArguments.isVirtualThreads()) {
+            logger.debug("Running fuzzers using virtual threads: {}", ConcurrencyUtils.areVirtualThreadsSupported());
+            return ConcurrencyUtils.newVirtualThreadPerTaskExecutor(Math.max(processingArguments.getParallelism(), Runtime.getRuntime().availableProcessors()));
+        }
+        logger.debug("Running fuzzers using {} parallel workers", processingArguments.getParallelism());
+        return Executors.newFixedThreadPool(processingArguments.getParallelism());
+    }
+
+    private CompletableFuture<Void> fuzzPathInParallel(Map.Entry<String, PathItem> pathItemEntry, FuzzingDataProvider fuzzingDataProvider,
+                                                       ExecutorService fuzzingExecutor, Map<String, String> mdcContext) {
+        Optional<PathFuzzingPlan> fuzzingPlan = this.createPathFuzzingPlan(pathItemEntry, fuzzingDataProvider);
+
+        return fuzzingPlan
+                .map(plan -> this.runFuzzersInParallel(plan.fuzzingData(), plan.firstPhaseFuzzers(), fuzzingExecutor, mdcContext)
+                        .thenCompose(firstPhaseDone -> this.runFuzzersInParallel(plan.fuzzingData(), filterArguments.getSecondPhaseFuzzers(), fuzzingExecutor, mdcContext)))
+                .orElse(CompletableFuture.completedFuture(null));
+    }
+
+    private Optional<PathFuzzingPlan> createPathFuzzingPlan(Map.Entry<String, PathItem> pathItemEntry, FuzzingDataProvider fuzzingDataProvider) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = ansi().bold().a("Start fuzzing path {}").reset().toString();
         logger.start(ansiString, pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        List<FuzzingData> fuzzingDataList = fuzzingDataProvider.fuzzingDataFor(pathItemEntry);
 
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
-            return;
+            return Optional.empty();
         }
 
         /* If certain HTTP methods are skipped, we remove corresponding FuzzingData */
@@ -358,8 +503,8 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         List<Fuzzer> fuzzersToRun = filterArguments.filterOutFuzzersNotMatchingHttpMethods(allHttpMethodsFromFuzzingData);
         int totalToRun = this.computeTotalsToRun(fuzzersToRun, filteredFuzzingData);
         testCaseListener.setTotalRunsPerPath(pathItemEntry.getKey(), totalToRun);
-        this.runFuzzers(filteredFuzzingData, fuzzersToRun);
-        this.runFuzzers(filteredFuzzingData, filterArguments.getSecondPhaseFuzzers());
+
+        return Optional.of(new PathFuzzingPlan(filteredFuzzingData, fuzzersToRun));
     }
 
     private int computeTotalsToRun(List<Fuzzer> fuzzersToRun, List<FuzzingData> filteredFuzzingData) {
@@ -375,24 +520,53 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
 
         for (Fuzzer fuzzer : configuredFuzzers) {
-            List<FuzzingData> filteredData = CatsUtil.filterAndPrintNotMatching(
-                    fuzzingDataListWithHttpMethodsFiltered,
-                    data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
-                    logger,
-                    "HTTP method {} is not supported by {}",
-                    t -> t.getMethod().toString(), fuzzer.toString());
-            filteredData.forEach(data -> {
-                logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
-                logger.debug("Fuzzing payload: {}", data.getPayload());
-                testCaseListener.beforeFuzz(fuzzer.getClass());
-                fuzzer.fuzz(data);
-                if (!(fuzzer instanceof FunctionalFuzzer)) {
-                    testCaseListener.afterFuzz(data.getContractPath(), data.getMethod().name());
-                }
-                logger.complete("Finishing Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
-                logger.info("{}", SEPARATOR);
-            });
+            List<FuzzingData> filteredData = this.filterDataSupportedByFuzzer(fuzzingDataListWithHttpMethodsFiltered, fuzzer);
+            filteredData.forEach(data -> this.runFuzzer(fuzzer, data));
+        }
+    }
+
+    private CompletableFuture<Void> runFuzzersInParallel(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers,
+                                                         ExecutorService fuzzingExecutor, Map<String, String> mdcContext) {
+        CompletableFuture<?>[] fuzzingUnits = configuredFuzzers.stream()
+                .flatMap(fuzzer -> this.filterDataSupportedByFuzzer(fuzzingDataListWithHttpMethodsFiltered, fuzzer)
+                        .stream()
+                        .map(data -> CompletableFuture.runAsync(() -> this.runFuzzerWithMdcContext(fuzzer, data, mdcContext), fuzzingExecutor)))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(fuzzingUnits);
+    }
+
+    private List<FuzzingData> filterDataSupportedByFuzzer(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, Fuzzer fuzzer) {
+        return CatsUtil.filterAndPrintNotMatching(
+                fuzzingDataListWithHttpMethodsFiltered,
+                data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
+                logger,
+                "HTTP method {} is not supported by {}",
+                t -> t.getMethod().toString(), fuzzer.toString());
+    }
+
+    /**
+     * MDC is thread bound, so worker threads must start from the same logging context as the main thread.
+     */
+    private void runFuzzerWithMdcContext(Fuzzer fuzzer, FuzzingData data, Map<String, String> mdcContext) {
+        MDC.setContextMap(mdcContext);
+        try {
+            this.runFuzzer(fuzzer, data);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void runFuzzer(Fuzzer fuzzer, FuzzingData data) {
+        logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+        logger.debug("Fuzzing payload: {}", data.getPayload());
+        testCaseListener.beforeFuzz(fuzzer.getClass());
+        fuzzer.fuzz(data);
+        if (!(fuzzer instanceof FunctionalFuzzer)) {
+            testCaseListener.afterFuzz(data.getContractPath(), data.getMethod().name());
         }
+        logger.complete("Finishing Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+        logger.info("{}", SEPARATOR);
     }
 
     @Override
@@ -400,4 +574,11 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         return exitCodeDueToErrors + executionStatisticsListener.getErrors();
     }
 
+    record PathFuzzingPlan(List<FuzzingData> fuzzingData, List<Fuzzer> firstPhaseFuzzers) {
+    }
+
+    @FunctionalInterface
+    private interface FuzzingDataProvider {
+        List<FuzzingData> fuzzingDataFor(Map.Entry<String, PathItem> pathItemEntry);
+    }
 }
@@ -1,5 +1,6 @@
 package com.endava.cats.command;
 
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.http.HttpMethod;
@@ -50,6 +51,10 @@ public class GenerateCommand implements Runnable, CommandLine.IExitCodeGenerator
             description = "The OpenAPI contract", required = true)
     private String contract;
 
+    @Inject
+    @CommandLine.Mixin
+    ContractCacheArguments contractCacheArguments;
+
     @CommandLine.Option(names = {"--httpMethod", "-X"},
             description = "The HTTP method. Default: @|bold,underline ${DEFAULT-VALUE}|@.")
     HttpMethod httpMethod = HttpMethod.POST;
@@ -93,7 +98,7 @@ public class GenerateCommand implements Runnable, CommandLine.IExitCodeGenerator
                 PrettyLogger.enableLevels(PrettyLevel.CONFIG, PrettyLevel.FATAL);
             }
 
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(contract);
+            OpenAPI openAPI = OpenApiUtils.readOpenApi(contract, contractCacheArguments.getContractCache());
             this.checkOpenAPI(openAPI);
             this.globalContext.init(openAPI, List.of(contentType), new Properties());
 
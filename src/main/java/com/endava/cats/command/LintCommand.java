@@ -1,5 +1,6 @@
 package com.endava.cats.command;
 
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.args.NamingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.util.VersionProvider;
@@ -49,6 +50,10 @@ public class LintCommand implements Runnable, CommandLine.IExitCodeGenerator {
             description = "The OpenAPI contract")
     private String contract;
 
+    @Inject
+    @CommandLine.Mixin
+    ContractCacheArguments contractCacheArguments;
+
     @CommandLine.Option(names = {"--skipFuzzers"},
             description = "A comma separated list of fuzzers you want to ignore. You can use full or partial Fuzzer names", split = ",")
     private List<String> skipFuzzers;
@@ -60,6 +65,7 @@ public class LintCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Override
     public void run() {
         catsCommand.apiArguments.setContract(contract);
+        catsCommand.contractCacheArguments = contractCacheArguments;
         catsCommand.apiArguments.setServer("http://empty");
         catsCommand.filterArguments.customFilter("Linter");
         catsCommand.filterArguments.getSkipFuzzers().addAll(Optional.ofNullable(skipFuzzers).orElse(Collections.emptyList()));
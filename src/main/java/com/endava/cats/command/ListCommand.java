@@ -6,6 +6,7 @@ import com.endava.cats.annotations.HttpFuzzer;
 import com.endava.cats.annotations.LinterFuzzer;
 import com.endava.cats.annotations.ValidateAndSanitize;
 import com.endava.cats.annotations.ValidateAndTrim;
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.command.model.FuzzerListEntry;
 import com.endava.cats.command.model.MutatorEntry;
 import com.endava.cats.command.model.PathDetailsEntry;
@@ -150,7 +151,7 @@ public class ListCommand implements Runnable {
 
     void listContractPaths() {
         try {
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(listCommandGroups.listContractOptions.contract);
+            OpenAPI openAPI = OpenApiUtils.readOpenApi(listCommandGroups.listContractOptions.contract, listCommandGroups.listContractOptions.contractCacheArguments.getContractCache());
             if (listCommandGroups.listContractOptions.path == null) {
                 this.listAllPaths(openAPI);
             } else {
@@ -372,6 +373,9 @@ public class ListCommand implements Runnable {
                 description = "The OpenAPI contract",
                 required = true)
         String contract;
+
+        @CommandLine.ArgGroup(exclusive = false)
+        ContractCacheArguments contractCacheArguments = new ContractCacheArguments();
     }
 
 }
@@ -8,6 +8,7 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -19,6 +20,8 @@ import picocli.CommandLine;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
@@ -154,13 +157,27 @@ public class ReplayCommand implements Runnable {
     }
 
     private CatsTestCase loadTestCaseFile(String testCaseFileName) throws IOException {
-        String testCaseFile = Files.readString(Paths.get(testCaseFileName));
+        String testCaseFile = this.readTestCaseFile(Paths.get(testCaseFileName));
         logger.config("Loaded content: \n" + testCaseFile);
         CatsTestCase testCase = JsonUtils.GSON.fromJson(testCaseFile, CatsTestCase.class);
         testCase.updateServer(server);
         return testCase;
     }
 
+    /**
+     * Test cases are read from individual files. When the file doesn't exist, but the report folder was written with
+     * the {@code HTML_STORE} format, the test case is read from the test case store.
+     */
+    private String readTestCaseFile(Path testCaseFile) throws IOException {
+        if (Files.exists(testCaseFile) || testCaseFile.getParent() == null) {
+            return Files.readString(testCaseFile);
+        }
+        String testKey = testCaseFile.getFileName().toString().replace(".json", "");
+
+        return TestCaseStore.readTestCaseJson(testCaseFile.getParent(), testKey)
+                .orElseThrow(() -> new NoSuchFileException(testCaseFile.toString()));
+    }
+
     private void initReportingPath() {
         if (StringUtils.isBlank(this.outputReportFolder)) {
             return;
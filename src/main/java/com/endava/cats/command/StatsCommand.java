@@ -1,5 +1,6 @@
 package com.endava.cats.command;
 
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.util.CatsModelUtils;
@@ -9,6 +10,7 @@ import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.quarkus.arc.Unremovable;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import jakarta.inject.Inject;
 import lombok.Builder;
 import lombok.ToString;
 import org.fusesource.jansi.Ansi;
@@ -56,6 +58,10 @@ public class StatsCommand implements Runnable {
             description = "The OpenAPI contract", required = true)
     private String contract;
 
+    @Inject
+    @CommandLine.Mixin
+    ContractCacheArguments contractCacheArguments;
+
     @CommandLine.Option(names = {"-s", "--skip"},
             description = "Details to skip printing on console. JSON output will still include them.", split = ",")
     private List<Details> skip = Collections.emptyList();
@@ -103,7 +109,7 @@ public class StatsCommand implements Runnable {
     @Override
     public void run() {
         try {
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(this.contract);
+            OpenAPI openAPI = OpenApiUtils.readOpenApi(this.contract, this.contractCacheArguments.getContractCache());
             String pathSize = String.valueOf(openAPI.getPaths().size());
             String operationsSize = String.valueOf(OpenApiUtils.getNumberOfOperations(openAPI));
             Set<String> servers = OpenApiUtils.getServers(openAPI);
@@ -1,5 +1,6 @@
 package com.endava.cats.command;
 
+import com.endava.cats.args.ContractCacheArguments;
 import com.endava.cats.command.model.ValidContractEntry;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.openapi.OpenApiParseResult;
@@ -8,6 +9,7 @@ import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.quarkus.arc.Unremovable;
+import jakarta.inject.Inject;
 import picocli.CommandLine;
 
 import java.util.List;
@@ -38,6 +40,10 @@ public class ValidateCommand implements Runnable {
             description = "The OpenAPI contract", required = true)
     private String contract;
 
+    @Inject
+    @CommandLine.Mixin
+    ContractCacheArguments contractCacheArguments;
+
     @CommandLine.Option(names = {"-j", "--json"},
             description = "Output to console in JSON format.")
     private boolean json;
@@ -52,7 +58,7 @@ public class ValidateCommand implements Runnable {
         List<String> reasons = List.of("valid");
         String version = "N/A";
         try {
-            OpenApiParseResult parseResult = OpenApiUtils.readAsParseResult(contract);
+            OpenApiParseResult parseResult = OpenApiUtils.readAsParseResult(contract, contractCacheArguments.getContractCache());
             version = parseResult.getVersion().name();
 
             if (!parseResult.getSwaggerParseResult().getMessages().isEmpty()) {
@@ -2,6 +2,8 @@ package com.endava.cats.context;
 
 import com.endava.cats.factory.NoMediaType;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.util.CatsModelUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.media.Discriminator;
@@ -9,28 +11,34 @@ import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Singleton;
 import lombok.Getter;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Holds global variables which should not be recomputed for each path.
+ * Collections are thread safe as fuzzing data can be built for several paths at the same time.
  */
 @Singleton
 @Getter
 public class CatsGlobalContext {
-    private final Map<String, Schema> schemaMap = new HashMap<>();
-    private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Schema> requestDataTypes = new HashMap<>();
-    private final List<String> additionalProperties = new ArrayList<>();
-    private final List<Discriminator> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    private final Map<String, Schema> schemaMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Example> exampleMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Schema> requestDataTypes = Collections.synchronizedMap(new HashMap<>());
+    private final Set<String> additionalProperties = ConcurrentHashMap.newKeySet();
+    /*discriminators are matched in the order they were found; equal discriminators are kept once as lookups only use the first match*/
+    private final Set<Discriminator> discriminators = new CopyOnWriteArraySet<>();
+    private final Map<String, Deque<String>> postSuccessfulResponses = new ConcurrentHashMap<>();
+    private final Set<String> successfulDeletes = ConcurrentHashMap.newKeySet();
     private final Properties fuzzersConfiguration = new Properties();
 
     /**
@@ -53,4 +61,45 @@ public class CatsGlobalContext {
         //sometimes OpenAPI generator adds a "" entry
         this.getSchemaMap().remove("");
     }
+
+    /**
+     * Registers the discriminators and the names of the properties holding additional properties, walking all the component schemas in the order they are declared.
+     * Model generation registers them as schemas are used, so without this, the fuzzing data built for a path would depend on the paths built before it.
+     *
+     * @param openAPI the OpenAPI spec
+     */
+    public void registerDiscriminatorsAndAdditionalProperties(OpenAPI openAPI) {
+        Set<Schema<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaNode> toVisit = new ArrayDeque<>();
+        Optional.ofNullable(openAPI.getComponents()).map(Components::getSchemas).orElse(Map.of())
+                .forEach((name, schema) -> toVisit.add(new SchemaNode(name, schema, false)));
+
+        while (!toVisit.isEmpty()) {
+            SchemaNode node = toVisit.poll();
+            Schema<?> schema = node.schema();
+            if (schema == null || !visited.add(schema)) {
+                continue;
+            }
+            if (schema.get$ref() != null) {
+                toVisit.add(new SchemaNode(node.name(), schemaMap.get(schema.get$ref().substring(schema.get$ref().lastIndexOf('/') + 1)), node.property()));
+                continue;
+            }
+            Optional.ofNullable(schema.getDiscriminator()).ifPresent(discriminators::add);
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalPropertiesSchema && !CatsModelUtils.isObjectSchema(schema)) {
+                if (node.property()) {
+                    additionalProperties.add(node.name());
+                }
+                toVisit.add(new SchemaNode(node.name(), additionalPropertiesSchema, node.property()));
+            }
+            Optional.ofNullable(schema.getProperties()).orElse(Map.of())
+                    .forEach((propertyName, propertySchema) -> toVisit.add(new SchemaNode(propertyName, propertySchema, true)));
+            toVisit.add(new SchemaNode(node.name(), schema.getItems(), node.property()));
+            Optional.ofNullable(schema.getAllOf()).orElse(List.of()).forEach(allOf -> toVisit.add(new SchemaNode(node.name(), allOf, node.property())));
+            Optional.ofNullable(schema.getAnyOf()).orElse(List.of()).forEach(anyOf -> toVisit.add(new SchemaNode(node.name(), anyOf, node.property())));
+            Optional.ofNullable(schema.getOneOf()).orElse(List.of()).forEach(oneOf -> toVisit.add(new SchemaNode(node.name(), oneOf, node.property())));
+        }
+    }
+
+    record SchemaNode(String name, Schema<?> schema, boolean property) {
+    }
 }
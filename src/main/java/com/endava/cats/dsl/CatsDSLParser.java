@@ -7,19 +7,22 @@ import com.endava.cats.dsl.impl.NoOpParser;
 import com.endava.cats.dsl.impl.SpringELParser;
 
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Allows parsing of different type of dynamic values through different parsers.
  */
 public class CatsDSLParser {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]*)}");
     private static final Parser DEFAULT_PARSER = new NoOpParser();
     private static final Parser SPRING_EL_PARSER = new SpringELParser();
+    private static final AuthScriptProviderParser AUTH_SCRIPT_PARSER = new AuthScriptProviderParser();
     private static final Map<String, Parser> PARSERS = Map.of(
             "$$", new EnvVariableParser(),
             "$request", SPRING_EL_PARSER,
             "T(", SPRING_EL_PARSER,
             "${", SPRING_EL_PARSER,
-            "auth_script", new AuthScriptProviderParser());
+            "auth_script", AUTH_SCRIPT_PARSER);
 
     private CatsDSLParser() {
         //ntd
@@ -34,13 +37,35 @@ public class CatsDSLParser {
      * @return the result after the appropriate parser runs
      */
     public static String parseAndGetResult(String valueFromFile, Map<String, String> context) {
-        return PARSERS.entrySet()
-                .stream()
-                .filter(entry -> valueFromFile.startsWith(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(DEFAULT_PARSER)
-                .parse(sanitize(valueFromFile), context);
+        return getParser(valueFromFile).parse(sanitize(valueFromFile), context);
+    }
+
+    private static Parser getParser(String valueFromFile) {
+        for (Map.Entry<String, Parser> entry : PARSERS.entrySet()) {
+            if (valueFromFile.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return DEFAULT_PARSER;
+    }
+
+    /**
+     * Notifies the auth script parser that the service rejected the credentials, so that they can be refreshed
+     * after the number of auth errors supplied through {@code --authRefreshOnErrors}.
+     */
+    public static void notifyAuthError() {
+        AUTH_SCRIPT_PARSER.onAuthError();
+    }
+
+    /**
+     * Checks if the given value is an expression which must be evaluated by a parser every time it's used.
+     * Values which are not expressions always produce the same result, regardless of the context.
+     *
+     * @param valueFromFile the value retrieved from the CATS files
+     * @return true if the value is a dynamic expression, false otherwise
+     */
+    public static boolean isDynamic(String valueFromFile) {
+        return PARSERS.keySet().stream().anyMatch(valueFromFile::startsWith);
     }
 
     /**
@@ -51,8 +76,8 @@ public class CatsDSLParser {
      * @return normalized form of the expression
      */
     private static String sanitize(String expression) {
-        return expression.replaceAll("\\$\\{([^}]*)}", "$1")
-                .replace("request#", "request.")
+        String withoutPlaceholders = expression.contains("${") ? PLACEHOLDER.matcher(expression).replaceAll("$1") : expression;
+        return withoutPlaceholders.replace("request#", "request.")
                 .replace("$request", "request");
     }
 }
@@ -23,6 +23,10 @@ public interface Parser {
      * Holds the name for the auth script refresh interval variable.
      */
     String AUTH_REFRESH = "auth_refresh";
+    /**
+     * Holds the name for the number of auth errors after which the auth script runs again.
+     */
+    String AUTH_REFRESH_ON_ERRORS = "auth_refresh_on_errors";
 
     /**
      * Parses the given expression within the given context and returns the result.
@@ -8,31 +8,115 @@ import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import java.io.BufferedReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Parser used to run the authentication script to supply credentials to the fuzzers.
+ * <p>
+ * The script runs once, on the first parse, and the credentials are then served to all threads from memory.
+ * When a refresh interval is supplied, the script runs again on a background thread slightly ahead of each interval,
+ * so requests never wait for it. Credentials can also be refreshed ahead of schedule after a given number of auth errors.
+ * If a refresh fails, the previous credentials are kept until the next one.
+ * </p>
  */
 public class AuthScriptProviderParser implements Parser {
-    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AuthScriptProviderParser.class);
-    private long t0 = System.currentTimeMillis();
-    private String existingValue;
+    private static final double REFRESH_AHEAD_RATIO = 0.9;
 
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AuthScriptProviderParser.class);
+    private final Object lock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicInteger authErrorsSinceRefresh = new AtomicInteger();
+    private volatile String existingValue;
+    private volatile String script;
+    private volatile int refreshOnAuthErrors;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledRefresh;
 
     @Override
     public String parse(String expression, Map<String, String> context) {
-        String script = context.get(Parser.AUTH_SCRIPT);
-        int authRefreshInterval = Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0"));
+        String currentValue = existingValue;
+        if (currentValue != null) {
+            return currentValue;
+        }
 
-        if (authRefreshInterval > 0 && refreshIntervalElapsed(authRefreshInterval)) {
-            logger.debug("Refresh interval passed.");
-            t0 = System.currentTimeMillis();
-            existingValue = runScript(script);
+        synchronized (lock) {
+            if (existingValue == null) {
+                script = context.get(Parser.AUTH_SCRIPT);
+                refreshOnAuthErrors = Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH_ON_ERRORS, "0"));
+                existingValue = runScript(script);
+                this.scheduleRefresh(Integer.parseInt(context.getOrDefault(Parser.AUTH_REFRESH, "0")));
+            }
+            return existingValue;
+        }
+    }
+
+    /**
+     * Records an authentication error. Once the configured number of auth errors is reached since the last refresh,
+     * the credentials are refreshed in the background.
+     */
+    public void onAuthError() {
+        int threshold = refreshOnAuthErrors;
+        if (threshold <= 0 || existingValue == null) {
+            return;
+        }
+        if (authErrorsSinceRefresh.incrementAndGet() >= threshold) {
+            authErrorsSinceRefresh.set(0);
+            this.getScheduler().execute(() -> this.refresh("Received {} auth errors since last refresh.", threshold));
+        }
+    }
+
+    private void scheduleRefresh(int authRefreshInterval) {
+        if (authRefreshInterval > 0) {
+            long periodInMillis = Math.max(1, Math.round(TimeUnit.SECONDS.toMillis(authRefreshInterval) * REFRESH_AHEAD_RATIO));
+            scheduledRefresh = this.getScheduler().scheduleAtFixedRate(() -> this.refresh("Refresh interval passed."), periodInMillis, periodInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        synchronized (lock) {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "cats-auth-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return scheduler;
         }
+    }
 
-        if (existingValue == null) {
+    private void refresh(String reason, Object... args) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            logger.debug(reason, args);
             existingValue = runScript(script);
+            authErrorsSinceRefresh.set(0);
+        } catch (RuntimeException e) {
+            logger.warning("Unable to refresh credentials, using existing ones: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Stops refreshing credentials in the background.
+     */
+    void shutdown() {
+        synchronized (lock) {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(true);
+            }
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
         }
-        return existingValue;
     }
 
     private String runScript(String script) {
@@ -54,8 +138,4 @@ public class AuthScriptProviderParser implements Parser {
             throw new CatsException(e);
         }
     }
-
-    private boolean refreshIntervalElapsed(int authRefreshInterval) {
-        return (System.currentTimeMillis() - t0) / 1000 >= authRefreshInterval;
-    }
 }
@@ -1,9 +1,11 @@
 package com.endava.cats.dsl.impl;
 
 import com.endava.cats.dsl.api.Parser;
+import com.endava.cats.util.BoundedCache;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.json.JsonPropertyAccessor;
@@ -16,10 +18,18 @@ import java.util.Map;
  * The format of these expressions usually start with {@code T{....}}.
  * Expressions can also have access to the JSON elements supplied in request,
  * responses as well as global variables from the {@code FunctionalFuzzer}.
+ * <p>
+ * Parsed expressions are cached by their text. Each evaluation gets its own evaluation context, with the request/response context supplied as root object,
+ * so variables assigned by an expression are not visible to other evaluations. The accessors and resolvers are created once and shared by all these contexts.
+ * </p>
  */
 public class SpringELParser implements Parser {
+    private static final int CACHE_SIZE = 1024;
+
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private final SpelExpressionParser spelExpressionParser;
+    private final StandardEvaluationContext sharedDelegates;
+    private final BoundedCache<String, Expression> expressions = new BoundedCache<>(CACHE_SIZE);
 
     /**
      * Initializes a new instance of the {@code SpringELParser} class.
@@ -28,6 +38,15 @@ public class SpringELParser implements Parser {
      */
     public SpringELParser() {
         spelExpressionParser = new SpelExpressionParser();
+        sharedDelegates = new StandardEvaluationContext();
+        sharedDelegates.setPropertyAccessors(List.of(new MapAccessor(), new JsonPropertyAccessor()));
+        /* the delegates are shared between threads, so the lazily created ones are created upfront */
+        sharedDelegates.getConstructorResolvers();
+        sharedDelegates.getMethodResolvers();
+        sharedDelegates.getTypeLocator();
+        sharedDelegates.getTypeConverter();
+        sharedDelegates.getTypeComparator();
+        sharedDelegates.getOperatorOverloader();
     }
 
     @Override
@@ -45,9 +64,9 @@ public class SpringELParser implements Parser {
     private Object parseExpressionWithContext(String expression, Object context) {
         try {
             StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context);
-            evaluationContext.setPropertyAccessors(List.of(new MapAccessor(), new JsonPropertyAccessor()));
+            sharedDelegates.applyDelegatesTo(evaluationContext);
 
-            return spelExpressionParser.parseExpression(expression).getValue(evaluationContext);
+            return expressions.get(expression, spelExpressionParser::parseExpression).getValue(evaluationContext);
         } catch (Exception e) {
             log.trace("Something went wrong while parsing: {}", e.getMessage());
             return expression;
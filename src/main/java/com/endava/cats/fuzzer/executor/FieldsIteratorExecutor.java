@@ -9,12 +9,14 @@ import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.PayloadTemplate;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.endava.cats.io.ServiceCaller.CATS_REMOVE_FIELD;
@@ -87,19 +89,23 @@ public class FieldsIteratorExecutor {
 
         fieldsToBeRemoved.forEach(allFields::remove);
 
-        for (String fuzzedField : allFields) {
-            Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
-            if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
-                for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
-                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> executeTestCase(context, fuzzedField, currentValue));
+        try (TestCasePipeline pipeline = new TestCasePipeline(testCaseListener, serviceCaller)) {
+            for (String fuzzedField : allFields) {
+                Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
+                if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
+                    for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
+                        pipeline.submit(context.getLogger(), context.getFuzzer(),
+                                () -> this.prepareTestCase(context, fuzzedField, currentValue),
+                                response -> this.reportResult(context, currentValue, response));
+                    }
+                } else {
+                    context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
                 }
-            } else {
-                context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
             }
         }
     }
 
-    private void executeTestCase(FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue) {
+    private ServiceData prepareTestCase(FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue) {
         FuzzingStrategy strategy = context.getFuzzingStrategy().withData(currentValue);
         context.getLogger().debug("Applying [{}] for field [{}]", strategy, fuzzedField);
 
@@ -109,19 +115,20 @@ public class FieldsIteratorExecutor {
 
         FuzzingResult fuzzingResult = this.getFuzzingResult(context, fuzzedField, strategy);
 
-        CatsResponse response = serviceCaller.call(
-                ServiceData.builder()
-                        .relativePath(context.getFuzzingData().getPath())
-                        .contractPath(context.getFuzzingData().getContractPath())
-                        .headers(context.getFuzzingData().getHeaders())
-                        .payload(fuzzingResult.json())
-                        .queryParams(context.getFuzzingData().getQueryParams())
-                        .httpMethod(context.getFuzzingData().getMethod())
-                        .contentType(context.getFuzzingData().getFirstRequestContentType())
-                        .replaceRefData(context.isReplaceRefData())
-                        .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
-                        .build());
+        return ServiceData.builder()
+                .relativePath(context.getFuzzingData().getPath())
+                .contractPath(context.getFuzzingData().getContractPath())
+                .headers(context.getFuzzingData().getHeaders())
+                .payload(fuzzingResult.json())
+                .queryParams(context.getFuzzingData().getQueryParams())
+                .httpMethod(context.getFuzzingData().getMethod())
+                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                .replaceRefData(context.isReplaceRefData())
+                .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
+                .build();
+    }
 
+    private void reportResult(FieldsIteratorExecutorContext context, Object currentValue, CatsResponse response) {
         if (context.getExpectedResponseCode() != null) {
             testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode());
         } else if (!matchArguments.isAnyMatchArgumentSupplied() || matchArguments.isMatchResponse(response) || matchArguments.isInputReflected(response, currentValue)) {
@@ -132,10 +139,12 @@ public class FieldsIteratorExecutor {
     }
 
     private FuzzingResult getFuzzingResult(FieldsIteratorExecutorContext context, String fuzzedField, FuzzingStrategy strategy) {
+        PayloadTemplate payloadTemplate = Optional.ofNullable(context.getFuzzingData().getPayloadTemplate())
+                .orElseGet(() -> PayloadTemplate.of(context.getFuzzingData().getPayload()));
         if (context.isSimpleReplaceField()) {
-            return CatsUtil.justReplaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy.getData());
+            return CatsUtil.justReplaceField(payloadTemplate, fuzzedField, strategy.getData());
         }
-        return FuzzingStrategy.replaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy);
+        return FuzzingStrategy.replaceField(payloadTemplate, fuzzedField, strategy, false);
     }
 
     /**
@@ -54,45 +54,49 @@ public class HeadersIteratorExecutor {
 
         Set<CatsHeader> clonedHeaders = Cloner.cloneMe(headersWithoutAuth);
 
-        for (CatsHeader header : clonedHeaders) {
-            if (filterArguments.getSkipHeaders().stream().noneMatch(ignoredHeader -> ignoredHeader.equalsIgnoreCase(header.getName()))) {
-                for (FuzzingStrategy fuzzingStrategy : context.getFuzzValueProducer().get()) {
-                    context.getLogger().debug("Fuzzing strategy {} for header {}", fuzzingStrategy.name(), header);
-                    String previousHeaderValue = header.getValue();
-                    header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
-                    try {
-                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-                            boolean isRequiredHeaderFuzzed = clonedHeaders.stream().filter(CatsHeader::isRequired).toList().contains(header);
-                            ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
-
-                            testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
-                            testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
-                                    expectedResponseCode != null ? expectedResponseCode.asString() : "a response that doesn't match" + matchArguments.getMatchString());
-
-                            ServiceData serviceData = ServiceData.builder()
-                                    .relativePath(context.getFuzzingData().getPath())
-                                    .contractPath(context.getFuzzingData().getContractPath())
-                                    .headers(clonedHeaders)
-                                    .payload(context.getFuzzingData().getPayload())
-                                    .fuzzedHeader(header.getName())
-                                    .queryParams(context.getFuzzingData().getQueryParams())
-                                    .httpMethod(context.getFuzzingData().getMethod())
-                                    .contentType(context.getFuzzingData().getFirstRequestContentType())
-                                    .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
-                                    .build();
-
-                            CatsResponse response = serviceCaller.call(serviceData);
-                            this.reportResult(context, expectedResponseCode, response);
-                        });
-                    } finally {
-                        /* we reset back the current header */
-                        header.withValue(previousHeaderValue);
+        try (TestCasePipeline pipeline = new TestCasePipeline(testCaseListener, serviceCaller)) {
+            for (CatsHeader header : clonedHeaders) {
+                if (filterArguments.getSkipHeaders().stream().noneMatch(ignoredHeader -> ignoredHeader.equalsIgnoreCase(header.getName()))) {
+                    for (FuzzingStrategy fuzzingStrategy : context.getFuzzValueProducer().get()) {
+                        context.getLogger().debug("Fuzzing strategy {} for header {}", fuzzingStrategy.name(), header);
+                        String previousHeaderValue = header.getValue();
+                        header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
+                        boolean isRequiredHeaderFuzzed = clonedHeaders.stream().filter(CatsHeader::isRequired).toList().contains(header);
+                        ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
+                        try {
+                            /* the request is built before submit returns, so the header can be reset right after */
+                            pipeline.submit(context.getLogger(), context.getFuzzer(),
+                                    () -> this.prepareTestCase(context, clonedHeaders, header, fuzzingStrategy, expectedResponseCode),
+                                    response -> this.reportResult(context, expectedResponseCode, response));
+                        } finally {
+                            /* we reset back the current header */
+                            header.withValue(previousHeaderValue);
+                        }
                     }
                 }
             }
         }
     }
 
+    private ServiceData prepareTestCase(HeadersIteratorExecutorContext context, Set<CatsHeader> clonedHeaders, CatsHeader header,
+                                        FuzzingStrategy fuzzingStrategy, ResponseCodeFamily expectedResponseCode) {
+        testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
+        testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
+                expectedResponseCode != null ? expectedResponseCode.asString() : "a response that doesn't match" + matchArguments.getMatchString());
+
+        return ServiceData.builder()
+                .relativePath(context.getFuzzingData().getPath())
+                .contractPath(context.getFuzzingData().getContractPath())
+                .headers(clonedHeaders)
+                .payload(context.getFuzzingData().getPayload())
+                .fuzzedHeader(header.getName())
+                .queryParams(context.getFuzzingData().getQueryParams())
+                .httpMethod(context.getFuzzingData().getMethod())
+                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
+                .build();
+    }
+
     private void reportResult(HeadersIteratorExecutorContext context, ResponseCodeFamily expectedResponseCode, CatsResponse response) {
         if (expectedResponseCode != null) {
             testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, expectedResponseCode, context.isMatchResponseSchema(), context.isShouldMatchContentType());
@@ -7,6 +7,8 @@ import com.endava.cats.report.TestCaseListener;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.stream.Stream;
+
 /**
  * Executors are meant to be the units that will execute the fuzzer's payloads and facilitate the interaction with all the reporting.
  * <p>
@@ -52,31 +54,49 @@ public class SimpleExecutor {
      * @param context the executor context
      */
     public void execute(SimpleExecutorContext context) {
-        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-            testCaseListener.addScenario(context.getLogger(), context.getScenario());
-            testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(),
+                () -> this.processResponse(context, serviceCaller.call(this.prepareTestCase(context))));
+    }
 
-            CatsResponse response = serviceCaller.call(
-                    ServiceData.builder()
-                            .relativePath(context.getPath())
-                            .contractPath(context.getFuzzingData().getContractPath())
-                            .headers(context.getHeaders())
-                            .payload(context.getPayload())
-                            .queryParams(context.getFuzzingData().getQueryParams())
-                            .httpMethod(context.getHttpMethod())
-                            .contentType(context.getFuzzingData().getFirstRequestContentType())
-                            .replaceRefData(context.isReplaceRefData())
-                            .skippedHeaders(context.getSkippedHeaders())
-                            .addUserHeaders(context.isAddUserHeaders())
-                            .replaceUrlParams(context.isReplaceUrlParams())
-                            .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
-                            .build());
+    /**
+     * Executes the logic for each of the given contexts, one test case per context.
+     * When {@code --pipelineDepth} is bigger than 1, requests for the next contexts are sent while waiting for the responses
+     * of the previous ones. Results are reported in the order of the supplied contexts.
+     *
+     * @param contexts the executor contexts
+     */
+    public void executeAll(Stream<SimpleExecutorContext> contexts) {
+        try (TestCasePipeline pipeline = new TestCasePipeline(testCaseListener, serviceCaller)) {
+            contexts.forEach(context -> pipeline.submit(context.getLogger(), context.getFuzzer(),
+                    () -> this.prepareTestCase(context), response -> this.processResponse(context, response)));
+        }
+    }
+
+    private ServiceData prepareTestCase(SimpleExecutorContext context) {
+        testCaseListener.addScenario(context.getLogger(), context.getScenario());
+        testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+
+        return ServiceData.builder()
+                .relativePath(context.getPath())
+                .contractPath(context.getFuzzingData().getContractPath())
+                .headers(context.getHeaders())
+                .payload(context.getPayload())
+                .queryParams(context.getFuzzingData().getQueryParams())
+                .httpMethod(context.getHttpMethod())
+                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                .replaceRefData(context.isReplaceRefData())
+                .skippedHeaders(context.getSkippedHeaders())
+                .addUserHeaders(context.isAddUserHeaders())
+                .replaceUrlParams(context.isReplaceUrlParams())
+                .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
+                .build();
+    }
 
-            if (context.getResponseProcessor() != null) {
-                context.getResponseProcessor().accept(response, context.getFuzzingData());
-            } else {
-                testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult(), context.isMatchResponseContentType());
-            }
-        });
+    private void processResponse(SimpleExecutorContext context, CatsResponse response) {
+        if (context.getResponseProcessor() != null) {
+            context.getResponseProcessor().accept(response, context.getFuzzingData());
+        } else {
+            testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult(), context.isMatchResponseContentType());
+        }
     }
 }
@@ -0,0 +1,89 @@
+package com.endava.cats.fuzzer.executor;
+
+import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.io.ServiceData;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.TestCaseListener;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs test cases keeping up to {@code --pipelineDepth} HTTP requests in flight.
+ * <p>
+ * Each test case is split in two parts: the request preparation, which runs on the calling thread as soon as the test case
+ * is submitted, and the response processing, which runs on the calling thread once the oldest pending test case needs to make room
+ * for a new one or when the pipeline is closed. This way building the next payloads overlaps with waiting for the previous responses,
+ * while results are still reported in test id order.
+ * </p>
+ * <p>
+ * When the depth is 1, test cases are run sequentially using {@code ServiceCaller#call}.
+ * </p>
+ */
+class TestCasePipeline implements AutoCloseable {
+    private final TestCaseListener testCaseListener;
+    private final ServiceCaller serviceCaller;
+    private final int depth;
+    private final Deque<PendingTestCase> pendingTestCases = new ArrayDeque<>();
+
+    TestCasePipeline(TestCaseListener testCaseListener, ServiceCaller serviceCaller) {
+        this.testCaseListener = testCaseListener;
+        this.serviceCaller = serviceCaller;
+        this.depth = serviceCaller.getPipelineDepth();
+    }
+
+    /**
+     * Submits a new test case to the pipeline.
+     *
+     * @param logger            the logger of the fuzzer
+     * @param fuzzer            the fuzzer running the test case
+     * @param requestPreparer   prepares the test case and builds the data used to call the service
+     * @param responseProcessor processes the response received from the service and reports the result
+     */
+    void submit(PrettyLogger logger, Fuzzer fuzzer, Supplier<ServiceData> requestPreparer, Consumer<CatsResponse> responseProcessor) {
+        if (depth <= 1) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> responseProcessor.accept(serviceCaller.call(requestPreparer.get())));
+            return;
+        }
+
+        if (pendingTestCases.size() >= depth) {
+            this.completeOldest();
+        }
+
+        AtomicReference<CompletableFuture<CatsResponse>> response = new AtomicReference<>();
+        String testId = testCaseListener.startTest(logger, fuzzer, () -> response.set(serviceCaller.callAsync(requestPreparer.get())));
+        pendingTestCases.add(new PendingTestCase(testId, logger, fuzzer, response.get(), responseProcessor));
+    }
+
+    private void completeOldest() {
+        PendingTestCase pending = pendingTestCases.poll();
+        testCaseListener.completeTest(pending.testId(), pending.logger(), pending.fuzzer(), () -> {
+            /*if the response is null, the preparation failed and the error was already reported*/
+            if (pending.response() != null) {
+                CatsResponse catsResponse = pending.response().join();
+                testCaseListener.addResponse(catsResponse);
+                pending.responseProcessor().accept(catsResponse);
+            }
+        });
+    }
+
+    /**
+     * Waits for all pending test cases to finish and reports their results.
+     */
+    @Override
+    public void close() {
+        while (!pendingTestCases.isEmpty()) {
+            this.completeOldest();
+        }
+    }
+
+    record PendingTestCase(String testId, PrettyLogger logger, Fuzzer fuzzer,
+                                   CompletableFuture<CatsResponse> response, Consumer<CatsResponse> responseProcessor) {
+    }
+}
@@ -11,12 +11,15 @@ import com.endava.cats.io.ServiceData;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.Subsets;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Singleton;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -54,7 +57,7 @@ public class RemoveFieldsFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         logger.debug("All required fields, including subfields: {}", data.getAllRequiredFields());
-        Set<Set<String>> sets = this.getAllFields(data);
+        Iterable<Set<String>> sets = this.getAllFields(data);
 
         for (Set<String> subset : sets) {
             Set<String> finalSubset = this.removeIfSkipped(subset);
@@ -70,14 +73,18 @@ public class RemoveFieldsFuzzer implements Fuzzer {
                 .collect(Collectors.toSet());
     }
 
-    private Set<Set<String>> getAllFields(FuzzingData data) {
-        Set<Set<String>> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
+    private Iterable<Set<String>> getAllFields(FuzzingData data) {
+        Subsets<String> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
                 , processingArguments.getMaxFieldsToRemove());
 
         logger.note("Fuzzer will run with [{}] fields configuration possibilities out of [{}] maximum possible",
-                sets.size(), (int) Math.pow(2, data.getAllFieldsByHttpMethod().size()));
+                sets.count(), BigInteger.TWO.pow(data.getAllFieldsByHttpMethod().size()));
 
-        return sets;
+        int maxFieldsCombinations = processingArguments.getMaxFieldsCombinations();
+        if (maxFieldsCombinations > 0 && sets.count().compareTo(BigInteger.valueOf(maxFieldsCombinations)) > 0) {
+            logger.note("Fuzzer will run with a random sample of [{}] fields configuration possibilities as configured through --maxFieldsCombinations", maxFieldsCombinations);
+        }
+        return sets.sample(maxFieldsCombinations, CatsUtil.random());
     }
 
 
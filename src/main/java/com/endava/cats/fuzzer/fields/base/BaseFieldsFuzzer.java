@@ -15,12 +15,15 @@ import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsModelUtils;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.PayloadTemplate;
+import com.endava.cats.util.RegexCache;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -97,7 +100,8 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             testCaseListener.addScenario(logger, "Send [{}] in request fields: field [{}], value [{}], is required [{}]",
                     this.typeOfDataSentToTheService(), fuzzedField, fuzzingStrategy.truncatedValue(), fuzzingConstraints.getRequiredString());
             logger.debug("Fuzzing possible...");
-            FuzzingResult fuzzingResult = FuzzingStrategy.replaceField(data.getPayload(), fuzzedField, fuzzingStrategy);
+            PayloadTemplate payloadTemplate = Optional.ofNullable(data.getPayloadTemplate()).orElseGet(() -> PayloadTemplate.of(data.getPayload()));
+            FuzzingResult fuzzingResult = FuzzingStrategy.replaceField(payloadTemplate, fuzzedField, fuzzingStrategy, false);
             boolean isFuzzedValueMatchingPattern = this.isFuzzedValueMatchingPattern(fuzzingResult.fuzzedValue(), data, fuzzedField);
 
             ServiceData serviceData = ServiceData.builder().relativePath(data.getPath())
@@ -188,7 +192,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             if (fieldSchema.getPattern() == null || CatsModelUtils.isByteArraySchema(fieldSchema)) {
                 return true;
             }
-            Pattern pattern = Pattern.compile(fieldSchema.getPattern());
+            Pattern pattern = RegexCache.pattern(fieldSchema.getPattern());
 
             return fieldValue == null || pattern.matcher(this.sanitizeString(fieldValue)).matches();
         }
@@ -7,6 +7,7 @@ import com.endava.cats.fuzzer.executor.SimpleExecutorContext;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.Subsets;
 import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -15,6 +16,8 @@ import jakarta.inject.Singleton;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Sends request with headers defined in the OpenAPI specs removed.
@@ -40,14 +43,16 @@ public class RemoveHeadersFuzzer implements Fuzzer {
             logger.skip("No headers to fuzz");
             return;
         }
-        Set<Set<CatsHeader>> headersCombination = FuzzingData.SetFuzzingStrategy.powerSet(data.getHeaders());
+        /*combinations are produced one at a time as they are sent; the empty combination sends no headers at all*/
+        Stream<Set<CatsHeader>> headersCombination = Stream.concat(Stream.of(Set.of()),
+                StreamSupport.stream(Subsets.all(data.getHeaders()).spliterator(), false));
         Set<CatsHeader> mandatoryHeaders = data.getHeaders().stream().filter(CatsHeader::isRequired).collect(Collectors.toSet());
 
-        for (Set<CatsHeader> headersSubset : headersCombination) {
-            boolean anyMandatoryHeaderRemoved = this.isAnyMandatoryHeaderRemoved(headersSubset, mandatoryHeaders);
+        simpleExecutor.executeAll(headersCombination
+                .map(headersSubset -> {
+                    boolean anyMandatoryHeaderRemoved = this.isAnyMandatoryHeaderRemoved(headersSubset, mandatoryHeaders);
 
-            simpleExecutor.execute(
-                    SimpleExecutorContext.builder()
+                    return SimpleExecutorContext.builder()
                             .logger(logger)
                             .fuzzer(this)
                             .fuzzingData(data)
@@ -56,9 +61,8 @@ public class RemoveHeadersFuzzer implements Fuzzer {
                             .expectedResponseCode(ResponseCodeFamily.getResultCodeBasedOnRequiredFieldsRemoved(anyMandatoryHeaderRemoved))
                             .expectedResult(" as mandatory headers [%s] removed".formatted(anyMandatoryHeaderRemoved ? "were" : "were not"))
                             .addUserHeaders(false)
-                            .build()
-            );
-        }
+                            .build();
+                }));
     }
 
     private boolean isAnyMandatoryHeaderRemoved(Set<CatsHeader> headersSubset, Set<CatsHeader> requiredHeaders) {
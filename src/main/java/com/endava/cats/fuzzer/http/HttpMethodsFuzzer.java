@@ -12,8 +12,8 @@ import io.swagger.v3.oas.models.PathItem;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -23,7 +23,7 @@ import java.util.function.Function;
 @HttpFuzzer
 public class HttpMethodsFuzzer implements Fuzzer {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(HttpMethodsFuzzer.class);
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = ConcurrentHashMap.newKeySet();
     private final HttpMethodFuzzerUtil httpMethodFuzzerUtil;
 
     /**
@@ -38,7 +38,7 @@ public class HttpMethodsFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
-        if (!fuzzedPaths.contains(data.getPath())) {
+        if (fuzzedPaths.add(data.getPath())) {
             executeForOperation(data, PathItem::getPost, HttpMethod.POST);
             executeForOperation(data, PathItem::getPut, HttpMethod.PUT);
             executeForOperation(data, PathItem::getGet, HttpMethod.GET);
@@ -49,7 +49,6 @@ public class HttpMethodsFuzzer implements Fuzzer {
             if (data.getPathItem().getGet() == null) {
                 executeForOperation(data, PathItem::getHead, HttpMethod.HEAD);
             }
-            fuzzedPaths.add(data.getPath());
         } else {
             logger.skip("Skip path {} as already fuzzed!", data.getPath());
         }
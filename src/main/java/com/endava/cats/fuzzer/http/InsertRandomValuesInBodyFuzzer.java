@@ -40,21 +40,18 @@ public class InsertRandomValuesInBodyFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         if (!JsonUtils.isEmptyPayload(data.getPayload())) {
-            for (String maliciousPayload : UnicodeGenerator.getInvalidJsons()) {
-                char firstChar = data.getPayload().charAt(0);
-                String finalPayload = firstChar + maliciousPayload + "," + data.getPayload().substring(1);
+            char firstChar = data.getPayload().charAt(0);
 
-                simpleExecutor.execute(
-                        SimpleExecutorContext.builder()
-                                .expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX)
-                                .fuzzingData(data)
-                                .logger(logger)
-                                .replaceRefData(false)
-                                .scenario("Insert invalid data %s within a valid json request body".formatted(maliciousPayload))
-                                .fuzzer(this)
-                                .payload(finalPayload)
-                                .build());
-            }
+            simpleExecutor.executeAll(UnicodeGenerator.getInvalidJsons().stream()
+                    .map(maliciousPayload -> SimpleExecutorContext.builder()
+                            .expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX)
+                            .fuzzingData(data)
+                            .logger(logger)
+                            .replaceRefData(false)
+                            .scenario("Insert invalid data %s within a valid json request body".formatted(maliciousPayload))
+                            .fuzzer(this)
+                            .payload(firstChar + maliciousPayload + "," + data.getPayload().substring(1))
+                            .build()));
         }
     }
 
@@ -62,18 +62,16 @@ public class RandomDummyInvalidJsonBodyFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
-        for (String payload : PAYLOADS) {
-            simpleExecutor.execute(
-                    SimpleExecutorContext.builder()
-                            .expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX)
-                            .fuzzingData(data)
-                            .logger(logger)
-                            .replaceRefData(false)
-                            .scenario("Send %s as invalid json request body".formatted(payload))
-                            .fuzzer(this)
-                            .payload(payload)
-                            .build());
-        }
+        simpleExecutor.executeAll(PAYLOADS.stream()
+                .map(payload -> SimpleExecutorContext.builder()
+                        .expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX)
+                        .fuzzingData(data)
+                        .logger(logger)
+                        .replaceRefData(false)
+                        .scenario("Send %s as invalid json request body".formatted(payload))
+                        .fuzzer(this)
+                        .payload(payload)
+                        .build()));
     }
 
     @Override
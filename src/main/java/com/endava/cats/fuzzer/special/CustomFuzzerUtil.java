@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -58,8 +59,8 @@ import static com.endava.cats.util.CatsDSLWords.VERIFY;
 public class CustomFuzzerUtil {
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(CustomFuzzerUtil.class);
     @Getter
-    private final Map<String, String> variables = new HashMap<>();
-    private final Map<String, Map<String, Object>> pathsWithInputVariables = new HashMap<>();
+    private final Map<String, String> variables = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> pathsWithInputVariables = new ConcurrentHashMap<>();
     private final TestCaseListener testCaseListener;
     private final ServiceCaller serviceCaller;
 
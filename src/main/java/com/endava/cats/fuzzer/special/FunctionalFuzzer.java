@@ -17,11 +17,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +33,7 @@ public class FunctionalFuzzer implements CustomFuzzerBase {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FunctionalFuzzer.class);
     private final FilesArguments filesArguments;
     private final CustomFuzzerUtil customFuzzerUtil;
-    private final List<CustomFuzzerExecution> executions = new ArrayList<>();
+    private final List<CustomFuzzerExecution> executions = new CopyOnWriteArrayList<>();
     private final TestCaseListener testCaseListener;
 
     /**
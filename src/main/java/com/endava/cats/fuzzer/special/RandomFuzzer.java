@@ -19,6 +19,7 @@ import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.WordListRegistry;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,7 +36,6 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,7 +45,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
 /**
  * Fuzzer intended for continuous fuzzing. It will randomly choose fields to fuzz and mutators to apply.
@@ -192,11 +191,7 @@ public class RandomFuzzer implements Fuzzer {
     }
 
     List<String> readValueFromFile(String fileLocation) throws IOException {
-        return Files.readAllLines(Path.of(fileLocation))
-                .stream()
-                .filter(Predicate.not(String::isBlank))
-                .filter(Predicate.not(line -> line.startsWith("#")))
-                .toList();
+        return WordListRegistry.words(Path.of(fileLocation), "#");
     }
 
     static Map<String, Object> parseYamlAsSimpleMap(String yaml) throws IOException {
@@ -8,20 +8,19 @@ import com.endava.cats.model.CatsField;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.WordListRegistry;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Singleton;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.CollectionUtils;
 
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -103,11 +102,7 @@ public class SecurityFuzzer implements CustomFuzzerBase {
 
         try {
             log.start("Parsing stringsFile...");
-            List<String> nastyStrings = Files.readAllLines(Paths.get(stringsFile))
-                    .stream()
-                    .filter(Predicate.not(String::isBlank))
-                    .filter(Predicate.not(line -> line.startsWith("# ")))
-                    .toList();
+            List<String> nastyStrings = WordListRegistry.words(Paths.get(stringsFile), "# ");
             log.complete("stringsFile parsed successfully! Found {} entries", nastyStrings.size());
             List<String> targetFields = this.getTargetFields(individualTestConfig, data);
             this.fuzzFields(data, key, individualTestConfig, nastyStrings, targetFields);
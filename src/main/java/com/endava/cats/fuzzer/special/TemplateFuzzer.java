@@ -16,6 +16,7 @@ import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.WordListRegistry;
 import com.jayway.jsonpath.JsonPathException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -24,15 +25,11 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -143,11 +140,7 @@ public class TemplateFuzzer implements Fuzzer {
                 payloads.add(EMPTY);
                 return payloads;
             } else {
-                return Files.readAllLines(Path.of(userArguments.getWords().getAbsolutePath()), StandardCharsets.UTF_8)
-                        .stream()
-                        .filter(Predicate.not(String::isBlank))
-                        .filter(Predicate.not(line -> line.startsWith("# ")))
-                        .toList();
+                return WordListRegistry.words(userArguments.getWords().toPath(), "# ");
             }
         } catch (IOException e) {
             logger.debug("Something went wrong while fuzzing!", e);
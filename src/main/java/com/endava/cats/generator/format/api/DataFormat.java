@@ -1,10 +1,15 @@
 package com.endava.cats.generator.format.api;
 
+import com.endava.cats.util.BoundedCache;
+import com.endava.cats.util.RegexCache;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.enterprise.inject.Instance;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * An abstract class that represents a data format.
@@ -12,8 +17,12 @@ import java.util.Optional;
  * @param <T> The type of {@code DataFormatGenerator} associated with this data format.
  */
 public abstract class DataFormat<T extends DataFormatGenerator> {
+    static final VoidGenerator VOID_GENERATOR = new VoidGenerator();
+    private static final int CACHE_SIZE = 4096;
 
     final Instance<T> generators;
+    private final BoundedCache<GeneratorKey, List<T>> resolvedGenerators = new BoundedCache<>(CACHE_SIZE);
+    private volatile Map<String, List<T>> generatorsByFormat;
 
     /**
      * Constructs a new data format with the specified set of data format generators.
@@ -25,25 +34,69 @@ public abstract class DataFormat<T extends DataFormatGenerator> {
     }
 
     /**
-     * Finds the data format generator that is appropriate for the given schema and property name.
+     * Finds the data format generators that are appropriate for the given schema and property name.
+     * <p>
+     * Generators only depend on the format and property name, so the result of the first lookup is cached.
+     * Schemas with one of the formats declared through {@link OpenAPIFormat} and no property name are resolved directly from a format index.
+     * </p>
      *
      * @param schema       The schema for the property
      * @param propertyName The name of the property
-     * @return An optional containing the data format generator for the property, if it exists
+     * @return the data format generators for the property, in the order they are registered
      */
     List<T> getGenerators(Schema<?> schema, String propertyName) {
+        String format = Optional.ofNullable(schema.getFormat()).orElse("");
+        String name = Optional.ofNullable(propertyName).orElse("");
+        if (name.isEmpty()) {
+            List<T> formatGenerators = this.getGeneratorsByFormat().get(format);
+            if (formatGenerators != null) {
+                return formatGenerators;
+            }
+        }
+        return resolvedGenerators.get(new GeneratorKey(format, name), key -> this.findGenerators(key.format(), key.propertyName()));
+    }
+
+    /**
+     * Returns the first generator applying to the given schema and property name, or the given fallback if none applies.
+     *
+     * @param schema       The schema for the property
+     * @param propertyName The name of the property
+     * @param fallback     The generator to return when none applies
+     * @return the first matching generator
+     */
+    T getFirstGenerator(Schema<?> schema, String propertyName, T fallback) {
+        List<T> matchingGenerators = this.getGenerators(schema, propertyName);
+        return matchingGenerators.isEmpty() ? fallback : matchingGenerators.get(0);
+    }
+
+    private Map<String, List<T>> getGeneratorsByFormat() {
+        Map<String, List<T>> byFormat = generatorsByFormat;
+        if (byFormat == null) {
+            byFormat = generators.stream()
+                    .filter(OpenAPIFormat.class::isInstance)
+                    .flatMap(generator -> ((OpenAPIFormat) generator).matchingFormats().stream())
+                    .distinct()
+                    .collect(Collectors.toUnmodifiableMap(Function.identity(), format -> this.findGenerators(format, "")));
+            generatorsByFormat = byFormat;
+        }
+        return byFormat;
+    }
+
+    private List<T> findGenerators(String format, String propertyName) {
         return generators.stream()
-                .filter(generator -> generator.appliesTo(Optional.ofNullable(schema.getFormat()).orElse(""),
-                        Optional.ofNullable(propertyName).orElse("")))
+                .filter(generator -> generator.appliesTo(format, propertyName))
                 .toList();
     }
 
     public static Object matchesPatternOrNull(Schema<?> schema, Object generated) {
-        if ((schema.getPattern() == null || (schema.getPattern() != null && String.valueOf(generated).matches(schema.getPattern())))
+        if ((schema.getPattern() == null || (schema.getPattern() != null && RegexCache.matches(String.valueOf(generated), schema.getPattern())))
                 && (schema.getMaxLength() == null || (String.valueOf(generated).length() <= schema.getMaxLength()))) {
             return generated;
         }
 
         return null;
     }
+
+    record GeneratorKey(String format, String propertyName) {
+    }
 }
@@ -28,9 +28,6 @@ public class InvalidDataFormat extends DataFormat<InvalidDataFormatGenerator> {
      * @return a generator for the given schema and property name
      */
     public InvalidDataFormatGenerator generator(Schema<?> schema, String propertyName) {
-        return super.getGenerators(schema, propertyName)
-                .stream()
-                .findFirst()
-                .orElse(new VoidGenerator());
+        return super.getFirstGenerator(schema, propertyName, VOID_GENERATOR);
     }
 }
@@ -29,10 +29,7 @@ public class ValidDataFormat extends DataFormat<ValidDataFormatGenerator> {
      * @return The generated data
      */
     public Object generate(Schema<?> schema, String propertyName) {
-        return super.getGenerators(schema, propertyName)
-                .stream()
-                .findFirst()
-                .orElse(new VoidGenerator())
+        return super.getFirstGenerator(schema, propertyName, VOID_GENERATOR)
                 .generate(schema);
     }
 }
@@ -5,6 +5,7 @@ import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.generator.format.api.PropertySanitizer;
 import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.RegexCache;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Singleton;
 
@@ -39,11 +40,11 @@ public class CountryCodeGenerator implements ValidDataFormatGenerator, InvalidDa
     }
 
     private static boolean patternMatchesTwoLetterIsoCode(Schema<?> schema) {
-        return schema.getPattern() != null && "RO".matches(schema.getPattern());
+        return schema.getPattern() != null && RegexCache.matches("RO", schema.getPattern());
     }
 
     private static boolean patternMatchesThreeLetterIsoCode(Schema<?> schema) {
-        return schema.getPattern() != null && "ROU".matches(schema.getPattern());
+        return schema.getPattern() != null && RegexCache.matches("ROU", schema.getPattern());
     }
 
     private static boolean hasLengthTwo(Schema<?> schema) {
@@ -0,0 +1,190 @@
+package com.endava.cats.generator.simple;
+
+import com.endava.cats.util.RegexCache;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pools of values generated ahead of time for the patterns used by the contract's string schemas.
+ * <p>
+ * Generating a value matching a pattern might need all the fallback generators and many pattern checks, especially for patterns with lookaheads.
+ * Pools are created by {@link #warmUp(Collection)} for each (pattern, minLength, maxLength) combination used when generating values for the given schemas
+ * and filled in the background: the lengths used by {@link StringGenerator#generateValueBasedOnMinMax(Schema)} and, for patterns without
+ * length constraints, the ones used when generating the request payloads. Taking a value from a pool refills it in the background once it's half empty. Only values matching the pattern are pooled.
+ * Values for combinations without a pool, or when the pool is empty, are generated on the calling thread as usual.
+ * </p>
+ */
+public final class GeneratedValuesPool implements AutoCloseable {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(GeneratedValuesPool.class);
+    private static final int MAX_ATTEMPTS_PER_VALUE = 2;
+    /*lengths used by OpenAPIModelGenerator for patterns without length constraints*/
+    private static final int PATTERN_MIN_LENGTH = 1;
+    private static final int PATTERN_MAX_LENGTH = 2000;
+
+    private final int poolSize;
+    private final ExecutorService executor;
+    private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new set of pools, each holding at most {@code poolSize} values, filled using the given executor.
+     *
+     * @param poolSize the number of values kept for each pattern and length combination
+     * @param executor the executor used to fill the pools
+     */
+    public GeneratedValuesPool(int poolSize, ExecutorService executor) {
+        this.poolSize = poolSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates pools for the patterns of the given schemas and their properties, items and composed schemas, and starts filling them in the background.
+     *
+     * @param schemas the schemas to generate values for
+     */
+    public void warmUp(Collection<Schema> schemas) {
+        Set<Schema<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Schema<?>> toVisit = new ArrayDeque<>();
+        schemas.forEach(toVisit::push);
+
+        while (!toVisit.isEmpty()) {
+            Schema<?> schema = toVisit.pop();
+            if (schema == null || !visited.add(schema)) {
+                continue;
+            }
+            this.createPoolFor(schema);
+            Optional.ofNullable(schema.getProperties()).ifPresent(properties -> properties.values().forEach(toVisit::push));
+            Optional.ofNullable(schema.getItems()).ifPresent(toVisit::push);
+            Optional.ofNullable(schema.getAllOf()).ifPresent(allOf -> allOf.forEach(toVisit::push));
+            Optional.ofNullable(schema.getAnyOf()).ifPresent(anyOf -> anyOf.forEach(toVisit::push));
+            Optional.ofNullable(schema.getOneOf()).ifPresent(oneOf -> oneOf.forEach(toVisit::push));
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+                toVisit.push(additionalProperties);
+            }
+        }
+        LOGGER.debug("Pre-generating values for {} patterns", pools.size());
+    }
+
+    private void createPoolFor(Schema<?> schema) {
+        if (StringUtils.isBlank(schema.getPattern())) {
+            return;
+        }
+        StringGenerator.LengthBounds bounds = StringGenerator.lengthBounds(schema);
+        this.createPool(schema.getPattern(), bounds.min(), bounds.max());
+        if (schema.getMinLength() == null && schema.getMaxLength() == null) {
+            this.createPool(schema.getPattern(), PATTERN_MIN_LENGTH, PATTERN_MAX_LENGTH);
+        }
+    }
+
+    void createPool(String pattern, int min, int max) {
+        PoolKey key = new PoolKey(StringGenerator.cleanPattern(pattern), min, max);
+        pools.computeIfAbsent(key, Pool::new).refillIfNeeded();
+    }
+
+    /**
+     * Returns a value matching the given pattern and lengths, taken from the pool when one exists and isn't empty, or generated on the spot otherwise.
+     *
+     * @param pattern the pattern
+     * @param min     the min length
+     * @param max     the max length
+     * @return a generated value
+     */
+    public String take(String pattern, int min, int max) {
+        Pool pool = pools.get(new PoolKey(StringGenerator.cleanPattern(pattern), min, max));
+        String value = pool != null ? pool.take() : null;
+        return value != null ? value : StringGenerator.generateValue(pattern, min, max);
+    }
+
+    /**
+     * Returns the number of values currently pooled for the given pattern and lengths.
+     *
+     * @param pattern the pattern
+     * @param min     the min length
+     * @param max     the max length
+     * @return the number of pooled values
+     */
+    public int available(String pattern, int min, int max) {
+        return Optional.ofNullable(pools.get(new PoolKey(StringGenerator.cleanPattern(pattern), min, max))).map(pool -> pool.size.get()).orElse(0);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    record PoolKey(String pattern, int min, int max) {
+    }
+
+    private final class Pool {
+        private final PoolKey key;
+        private final Queue<String> values = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile boolean unmatchable;
+
+        Pool(PoolKey key) {
+            this.key = key;
+        }
+
+        String take() {
+            String value = values.poll();
+            if (value != null) {
+                size.decrementAndGet();
+            }
+            this.refillIfNeeded();
+            return value;
+        }
+
+        void refillIfNeeded() {
+            if (!unmatchable && size.get() <= poolSize / 2 && refilling.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::refill);
+                } catch (RejectedExecutionException e) {
+                    refilling.set(false);
+                }
+            }
+        }
+
+        private void refill() {
+            try {
+                int attempts = 0;
+                int generated = 0;
+                while (size.get() < poolSize && attempts < poolSize * MAX_ATTEMPTS_PER_VALUE && !Thread.currentThread().isInterrupted()) {
+                    attempts++;
+                    String value = StringGenerator.generateValue(key.pattern(), key.min(), key.max());
+                    if (RegexCache.matches(value, key.pattern())) {
+                        values.offer(value);
+                        size.incrementAndGet();
+                        generated++;
+                    }
+                }
+                if (generated == 0 && attempts > 0) {
+                    LOGGER.debug("Unable to pre-generate values matching {}, values will be generated on demand", key.pattern());
+                    unmatchable = true;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debug("Unable to pre-generate values for {}: {}", key.pattern(), e.getMessage());
+                unmatchable = true;
+            } finally {
+                refilling.set(false);
+            }
+        }
+    }
+}
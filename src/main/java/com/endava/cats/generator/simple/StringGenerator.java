@@ -1,7 +1,7 @@
 package com.endava.cats.generator.simple;
 
 import com.endava.cats.util.CatsUtil;
-import com.github.curiousoddman.rgxgen.RgxGen;
+import com.endava.cats.util.RegexCache;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.Schema;
@@ -9,7 +9,6 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.cornutum.regexpgen.RandomGen;
 import org.cornutum.regexpgen.RegExpGen;
-import org.cornutum.regexpgen.js.Provider;
 import org.cornutum.regexpgen.random.RandomBoundsGen;
 import org.springframework.util.CollectionUtils;
 
@@ -82,10 +81,16 @@ public class StringGenerator {
             "text/xml");
 
     private static final RandomGen REGEXP_RANDOM_GEN = new RandomBoundsGen();
-    private static final org.cornutum.regexpgen.Provider REGEXPGEN_PROVIDER = Provider.forEcmaScript();
+    private static final Pattern LEADING_CHAR_BEFORE_START_ANCHOR = Pattern.compile(".\\^.*");
+    private static final Pattern LEADING_OR_TRAILING_SPECIAL_CHARS = Pattern.compile("(^[\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+)|([\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+$)");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[\\p{C}\\p{So}\\p{M}\\p{Sk}\r\n]+");
+    private static final Pattern NEGATIVE_LOOKAHEAD = Pattern.compile("\\(\\?!.*?\\)");
+    private static final Pattern POSITIVE_LOOKAHEAD = Pattern.compile("\\(\\?=.+?\\)");
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(StringGenerator.class);
 
+    private static volatile GeneratedValuesPool valuesPool;
+
     private StringGenerator() {
         //ntd
     }
@@ -134,11 +139,21 @@ public class StringGenerator {
         return initialValue.substring(0, length);
     }
 
+    /**
+     * Sets the pools of values generated ahead of time used by {@link #generate(String, int, int)}.
+     *
+     * @param pool the pools to take values from or null to always generate values on the spot
+     */
+    public static void useValuesPool(GeneratedValuesPool pool) {
+        valuesPool = pool;
+    }
+
     /**
      * This method generates a random string according to the given input.
      * If the pattern already has length information the min/max will be ignored.
      * <p>
      * It tries to generate a valid value using 3 types of generators in a fallback manner.
+     * When a {@link GeneratedValuesPool} is in use, the value is taken from the pool of the given pattern and lengths, if any.
      *
      * @param pattern the regex pattern
      * @param min     min length of the generated string
@@ -146,15 +161,23 @@ public class StringGenerator {
      * @return a random string corresponding to the given pattern and min, max restrictions
      */
     public static String generate(String pattern, int min, int max) {
+        GeneratedValuesPool pool = valuesPool;
+        if (pool != null) {
+            return pool.take(pattern, min, max);
+        }
+        return generateValue(pattern, min, max);
+    }
+
+    static String generateValue(String pattern, int min, int max) {
         LOGGER.debug("Generate for pattern {} min {} max {}", pattern, min, max);
         pattern = cleanPattern(pattern);
         String initialVersion = generateUsingRgxGenerator(pattern, min, max);
-        if (initialVersion.matches(pattern)) {
+        if (RegexCache.matches(initialVersion, pattern)) {
             LOGGER.debug("RGX generated value {} matched {}", initialVersion, pattern);
             return initialVersion;
         }
         String secondVersion = generateUsingRgxGenerator(removeLookaheadAssertions(pattern), min, max);
-        if (secondVersion.matches(pattern)) {
+        if (RegexCache.matches(secondVersion, pattern)) {
             LOGGER.debug("RGX generated value with lookaheads removed {} matched {}", secondVersion, pattern);
             return secondVersion;
         }
@@ -168,7 +191,7 @@ public class StringGenerator {
     }
 
     public static String cleanPattern(String pattern) {
-        if (pattern.matches(".\\^.*")) {
+        if (LEADING_CHAR_BEFORE_START_ANCHOR.matcher(pattern).matches()) {
             pattern = pattern.substring(1);
         }
         if (pattern.endsWith("$/")) {
@@ -178,7 +201,7 @@ public class StringGenerator {
     }
 
     private static String generateUsingRegexpGen(String pattern, int min, int max) {
-        RegExpGen generator = REGEXPGEN_PROVIDER.matchingExact(pattern);
+        RegExpGen generator = RegexCache.regExpGen(pattern);
 
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
             if (min == max) {
@@ -186,22 +209,22 @@ public class StringGenerator {
             }
             String generated = generator.generate(REGEXP_RANDOM_GEN, min, max);
 
-            if (generated.matches(pattern)) {
+            if (RegexCache.matches(generated, pattern)) {
                 LOGGER.debug("Generated using REGEXP {} matches {}", generated, pattern);
                 return generated;
             }
         }
 
         LOGGER.debug("Returning alphanumeric random string using REGEXP");
-        return REGEXPGEN_PROVIDER.matchingExact(ALPHANUMERIC_PLUS).generate(REGEXP_RANDOM_GEN, min, max);
+        return RegexCache.regExpGen(ALPHANUMERIC_PLUS).generate(REGEXP_RANDOM_GEN, min, max);
     }
 
     private static String generateUsingCatsRegexGenerator(String pattern, int min, int max) {
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
-            String secondVersionBase = RegexGenerator.generate(Pattern.compile(pattern), EMPTY, min, max);
+            String secondVersionBase = RegexGenerator.generate(RegexCache.pattern(pattern), EMPTY, min, max);
             String generatedString = composeString(secondVersionBase, min, max);
 
-            if (generatedString.matches(pattern)) {
+            if (RegexCache.matches(generatedString, pattern)) {
                 LOGGER.debug("Generated using CATS generator {} and matches {}", generatedString, pattern);
                 return generatedString;
             }
@@ -214,13 +237,13 @@ public class StringGenerator {
         String generatedValue;
         try {
             do {
-                generatedValue = new RgxGen(pattern).generate();
-                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && generatedValue.matches(pattern)) {
+                generatedValue = RegexCache.rgxGen(pattern).generate();
+                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && RegexCache.matches(generatedValue, pattern)) {
                     return generatedValue;
                 }
                 generatedValue = composeString(generatedValue, min, max);
                 attempts++;
-            } while (attempts < MAX_ATTEMPTS_GENERATE && !generatedValue.matches(pattern));
+            } while (attempts < MAX_ATTEMPTS_GENERATE && !RegexCache.matches(generatedValue, pattern));
         } catch (Exception e) {
             LOGGER.debug("RGX generator failed, returning empty.", e);
             return EMPTY;
@@ -235,7 +258,7 @@ public class StringGenerator {
 
             if (alternatives.length > 1) {
                 for (String alternative : alternatives) {
-                    Pattern.compile(alternative);
+                    RegexCache.pattern(alternative);
                 }
                 return true;
             } else {
@@ -309,7 +332,7 @@ public class StringGenerator {
         }
         String pattern = ALPHANUMERIC + "{" + (minLength - 1) + "," + minLength + "}";
 
-        return new RgxGen(pattern).generate();
+        return RegexCache.rgxGen(pattern).generate();
     }
 
     /**
@@ -348,14 +371,16 @@ public class StringGenerator {
         if (!CollectionUtils.isEmpty(property.getEnum())) {
             return String.valueOf(property.getEnum().get(0));
         }
-        int minLength = property.getMinLength() != null ? property.getMinLength() : 1;
-        int maxLength = property.getMaxLength() != null ? property.getMaxLength() - 1 : 50;
+        LengthBounds bounds = lengthBounds(property);
         String pattern = StringUtils.isNotBlank(property.getPattern()) ? property.getPattern() : StringGenerator.ALPHANUMERIC_PLUS;
-        if (maxLength < minLength) {
-            maxLength = minLength;
-        }
 
-        return StringGenerator.generate(pattern, minLength, maxLength);
+        return StringGenerator.generate(pattern, bounds.min(), bounds.max());
+    }
+
+    static LengthBounds lengthBounds(Schema<?> property) {
+        int minLength = property.getMinLength() != null ? property.getMinLength() : 1;
+        int maxLength = property.getMaxLength() != null ? property.getMaxLength() - 1 : 50;
+        return new LengthBounds(minLength, Math.max(minLength, maxLength));
     }
 
     /**
@@ -365,9 +390,8 @@ public class StringGenerator {
      * @return a sanitized version of the given string
      */
     public static String sanitize(String input) {
-        return input
-                .replaceAll("(^[\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+)|([\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+$)", EMPTY)
-                .replaceAll("[\\p{C}\\p{So}\\p{M}\\p{Sk}\r\n]+", EMPTY);
+        String trimmed = LEADING_OR_TRAILING_SPECIAL_CHARS.matcher(input).replaceAll(EMPTY);
+        return SPECIAL_CHARS.matcher(trimmed).replaceAll(EMPTY);
     }
 
     /**
@@ -387,9 +411,12 @@ public class StringGenerator {
      */
     public static String removeLookaheadAssertions(String regex) {
         // Replace negative lookahead (?!) with an empty string
-        regex = regex.replaceAll("\\(\\?!.*?\\)", "");
+        regex = NEGATIVE_LOOKAHEAD.matcher(regex).replaceAll(EMPTY);
         // Replace positive lookahead (?=) with an empty string
-        regex = regex.replaceAll("\\(\\?=.+?\\)", "");
+        regex = POSITIVE_LOOKAHEAD.matcher(regex).replaceAll(EMPTY);
         return regex;
     }
+
+    record LengthBounds(int min, int max) {
+    }
 }
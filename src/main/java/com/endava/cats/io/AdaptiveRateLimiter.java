@@ -0,0 +1,187 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsResponse;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the rate of a {@link RateLimiter} based on the feedback received from the service, using an AIMD (additive increase, multiplicative decrease) scheme.
+ * <p>
+ * Response times are collected in windows of {@value #WINDOW_SIZE} responses. At the end of each window the rate is increased if the p95 response time
+ * is under the target response time and decreased otherwise. The rate doubles on each window until the first decrease, in order to quickly reach
+ * the capacity of fast services, and increases by a fixed step afterwards. 429 and 503 responses, as well as connection errors, halve the rate
+ * straight away, at most once per window. When a {@code Retry-After} header is received, requests are also paused until the given time passes.
+ * The rate always stays between the minimum and maximum rates.
+ * </p>
+ */
+public final class AdaptiveRateLimiter {
+    static final int WINDOW_SIZE = 20;
+    private static final double PERCENTILE = 0.95;
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final double LATENCY_BACKOFF_FACTOR = 0.8;
+    private static final double INCREASE_STEP_RATIO = 0.05;
+    private static final long MAX_RETRY_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final Set<Integer> BACKOFF_RESPONSE_CODES = Set.of(429, 503);
+    private static final Set<CatsResponse.ExceptionalResponse> BACKOFF_EXCEPTIONS = EnumSet.of(CatsResponse.ExceptionalResponse.CONNECTION_REFUSED,
+            CatsResponse.ExceptionalResponse.CONNECTION_RESET, CatsResponse.ExceptionalResponse.CONNECTION_TIMEOUT,
+            CatsResponse.ExceptionalResponse.READ_TIMEOUT, CatsResponse.ExceptionalResponse.WRITE_TIMEOUT, CatsResponse.ExceptionalResponse.EMPTY_BODY);
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private final RateLimiter rateLimiter;
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final long targetResponseTimeInMs;
+    private final long[] window = new long[WINDOW_SIZE];
+    private int windowCount;
+    private boolean backedOffInWindow;
+    private boolean slowStart = true;
+    private volatile long pausedUntilMillis;
+
+    /**
+     * Creates a new limiter adjusting the rate of the given rate limiter, starting from the minimum rate.
+     *
+     * @param rateLimiter            the rate limiter applied to requests
+     * @param minRate                the minimum number of requests per second
+     * @param maxRate                the maximum number of requests per second
+     * @param targetResponseTimeInMs the p95 response time under which the rate is increased
+     */
+    public AdaptiveRateLimiter(RateLimiter rateLimiter, double minRate, double maxRate, long targetResponseTimeInMs) {
+        this.rateLimiter = rateLimiter;
+        this.maxRate = maxRate;
+        this.minRate = Math.min(minRate, maxRate);
+        this.increaseStep = Math.max(this.minRate, maxRate * INCREASE_STEP_RATIO);
+        this.targetResponseTimeInMs = targetResponseTimeInMs;
+        this.rateLimiter.setRate(this.minRate);
+    }
+
+    /**
+     * Blocks until a request can be sent, waiting for any {@code Retry-After} pause to pass and then for a permit from the rate limiter.
+     */
+    public void acquire() {
+        long pause = pausedUntilMillis - System.currentTimeMillis();
+        if (pause > 0) {
+            Uninterruptibles.sleepUninterruptibly(pause, TimeUnit.MILLISECONDS);
+        }
+        rateLimiter.acquire();
+    }
+
+    /**
+     * Records a response received from the service.
+     *
+     * @param responseCode     the HTTP response code
+     * @param responseTimeInMs the response time in milliseconds
+     * @param retryAfter       the value of the {@code Retry-After} header or null if not present
+     */
+    public void onResponse(int responseCode, long responseTimeInMs, String retryAfter) {
+        this.pauseFor(parseRetryAfter(retryAfter, System.currentTimeMillis()));
+        if (BACKOFF_RESPONSE_CODES.contains(responseCode)) {
+            this.backOff("response code " + responseCode);
+        } else {
+            this.recordResponseTime(responseTimeInMs);
+        }
+    }
+
+    /**
+     * Records a call which failed with the given exception. Connection errors and timeouts slow down the rate.
+     *
+     * @param exception the exception thrown by the call
+     */
+    public void onFailure(Exception exception) {
+        CatsResponse.ExceptionalResponse exceptionalResponse = CatsResponse.getResponseByException(exception);
+        if (BACKOFF_EXCEPTIONS.contains(exceptionalResponse)) {
+            this.backOff(exceptionalResponse.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Returns the current number of requests per second.
+     *
+     * @return the current rate
+     */
+    public double getRate() {
+        return rateLimiter.getRate();
+    }
+
+    private synchronized void recordResponseTime(long responseTimeInMs) {
+        window[windowCount++] = responseTimeInMs;
+        if (windowCount < WINDOW_SIZE) {
+            return;
+        }
+        long[] sorted = window.clone();
+        Arrays.sort(sorted);
+        long percentile = sorted[(int) Math.ceil(PERCENTILE * WINDOW_SIZE) - 1];
+        if (percentile > targetResponseTimeInMs) {
+            this.updateRate(rateLimiter.getRate() * LATENCY_BACKOFF_FACTOR, "p95 response time " + percentile + "ms");
+        } else if (!backedOffInWindow) {
+            double increased = slowStart ? rateLimiter.getRate() * 2 : rateLimiter.getRate() + increaseStep;
+            this.updateRate(increased, "p95 response time " + percentile + "ms");
+        }
+        windowCount = 0;
+        backedOffInWindow = false;
+    }
+
+    private synchronized void backOff(String reason) {
+        if (!backedOffInWindow) {
+            this.updateRate(rateLimiter.getRate() * BACKOFF_FACTOR, reason);
+            backedOffInWindow = true;
+        }
+    }
+
+    private void updateRate(double newRate, String reason) {
+        double currentRate = rateLimiter.getRate();
+        double boundedRate = Math.max(minRate, Math.min(maxRate, newRate));
+        if (newRate < currentRate) {
+            slowStart = false;
+        }
+        if (boundedRate != currentRate) {
+            rateLimiter.setRate(boundedRate);
+            logger.debug("Adjusted rate from {} to {} requests per second due to {}", currentRate, boundedRate, reason);
+        }
+    }
+
+    private void pauseFor(long millis) {
+        if (millis > 0) {
+            long until = System.currentTimeMillis() + Math.min(millis, MAX_RETRY_AFTER_MILLIS);
+            synchronized (this) {
+                pausedUntilMillis = Math.max(pausedUntilMillis, until);
+            }
+            logger.debug("Pausing requests for {}ms as requested by Retry-After", millis);
+        }
+    }
+
+    /**
+     * Parses the {@code Retry-After} header, which holds either a number of seconds or an HTTP date.
+     *
+     * @param retryAfter the header value
+     * @param now        the current time in milliseconds
+     * @return the number of milliseconds to wait, or 0 if the header is missing or invalid
+     */
+    static long parseRetryAfter(String retryAfter, long now) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        String value = retryAfter.trim();
+        try {
+            /* TimeUnit saturates to Long.MAX_VALUE instead of overflowing for very large values */
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                return Math.max(0, ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() - now);
+            } catch (DateTimeParseException ex) {
+                return 0;
+            }
+        }
+    }
+}
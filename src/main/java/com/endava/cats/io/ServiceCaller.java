@@ -10,6 +10,7 @@ import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.dsl.api.Parser;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.io.util.FormEncoder;
+import com.endava.cats.io.util.StreamedResponseBody;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
@@ -19,6 +20,9 @@ import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.PayloadTemplate;
+import com.endava.cats.util.ConcurrencyUtils;
 import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,14 +30,16 @@ import com.google.common.net.HttpHeaders;
 import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
@@ -42,6 +48,8 @@ import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -62,17 +70,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 
 import static com.endava.cats.util.JsonUtils.NOT_SET;
 import static com.endava.cats.util.CatsDSLWords.ADDITIONAL_PROPERTIES;
@@ -90,6 +101,8 @@ public class ServiceCaller {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("authorization", "jwt", "api-key", "api_key", "apikey",
             "secret", "secret-key", "secret_key", "api-secret", "api_secret", "apisecret", "api-token", "api_token", "apitoken");
+    /* OkHttp's default for the max number of requests running at the same time */
+    private static final int DEFAULT_DISPATCHER_MAX_REQUESTS = 64;
     private final FilesArguments filesArguments;
     private final TestCaseListener testCaseListener;
     private final AuthArguments authArguments;
@@ -99,6 +112,11 @@ public class ServiceCaller {
     OkHttpClient okHttpClient;
 
     private RateLimiter rateLimiter;
+    private AdaptiveRateLimiter adaptiveRateLimiter;
+    private Semaphore inFlightRequests;
+    private final Map<String, EndpointLimits> endpointLimits = new ConcurrentHashMap<>();
+    private final Map<String, SuppliedHeadersTemplate> suppliedHeadersTemplates = new ConcurrentHashMap<>();
+    private final Map<String, RefDataTemplate> refDataTemplates = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new {@code ServiceCaller} with the specified parameters.
@@ -121,11 +139,18 @@ public class ServiceCaller {
     }
 
     /**
-     * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument.
+     * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument
+     * and the limit of concurrent requests received in the {@code --maxInFlight} argument.
+     * When {@code --adaptiveRateLimit} is enabled, the rate is adjusted based on the responses received from the service.
+     * Per-path limits supplied through {@code --rateLimits} are created when each path is first called.
      */
     @PostConstruct
     public void initRateLimiter() {
+        endpointLimits.clear();
         rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        adaptiveRateLimiter = apiArguments.isAdaptiveRateLimit() ? new AdaptiveRateLimiter(rateLimiter, 1.0 * apiArguments.getMinRequestsPerMinute() / 60,
+                1.0 * apiArguments.getMaxRequestsPerMinute() / 60, apiArguments.getTargetResponseTimeInMs()) : null;
+        inFlightRequests = apiArguments.isMaxInFlightLimited() ? new Semaphore(apiArguments.getMaxInFlight(), true) : null;
     }
 
     /**
@@ -142,7 +167,8 @@ public class ServiceCaller {
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(apiArguments.getConnectionPoolSize(), 15, TimeUnit.MINUTES))
+                    .dispatcher(this.buildDispatcher())
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .hostnameVerifier((hostname, session) -> true).build();
@@ -154,6 +180,15 @@ public class ServiceCaller {
         }
     }
 
+    private Dispatcher buildDispatcher() {
+        int maxRequests = Math.max(DEFAULT_DISPATCHER_MAX_REQUESTS, apiArguments.getMaxRequestsPerHost());
+        Dispatcher dispatcher = processingArguments.isVirtualThreads() ? new Dispatcher(ConcurrencyUtils.newVirtualThreadPerTaskExecutor(maxRequests)) : new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(apiArguments.getMaxRequestsPerHost());
+        dispatcher.setMaxRequests(maxRequests);
+
+        return dispatcher;
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -201,6 +236,59 @@ public class ServiceCaller {
      */
     @DryRun
     public CatsResponse call(ServiceData data) {
+        CatsRequest catsRequest = this.createCatsRequest(data);
+
+        long startTime = System.currentTimeMillis();
+        try {
+            this.addUrlAndRecordRequest(catsRequest, data);
+
+            startTime = System.currentTimeMillis();
+            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields(), this.getEndpointLimits(data.getContractPath()));
+
+            this.recordResponse(response);
+            return response;
+        } catch (IOException | IllegalStateException e) {
+            CatsResponse catsResponse = this.createResponseFromException(e, catsRequest, data, System.currentTimeMillis() - startTime);
+            this.recordRequestAndResponse(catsRequest, catsResponse, data);
+
+            return catsResponse;
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #call(ServiceData)}. The request is prepared and recorded in the current test case
+     * on the calling thread, while the HTTP call is done using the OkHttp dispatcher.
+     * <p>
+     * The response is <b>not</b> recorded in the current test case, as the test case might not be the active one
+     * when the response arrives. Callers must record it using {@code TestCaseListener#addResponse}.
+     * Failures are mapped to responses in the same way as {@link #call(ServiceData)} does, so the returned future never completes exceptionally.
+     * </p>
+     * When in dryRun mode ServiceCaller won't do any actual calls.
+     *
+     * @param data the current context data
+     * @return a future holding the result of service invocation
+     */
+    @DryRun
+    public CompletableFuture<CatsResponse> callAsync(ServiceData data) {
+        CatsRequest catsRequest = this.createCatsRequest(data);
+
+        long startTime = System.currentTimeMillis();
+        try {
+            this.addUrlAndRecordRequest(catsRequest, data);
+
+            long requestStartTime = System.currentTimeMillis();
+            return this.callServiceAsync(catsRequest, data.getFuzzedFields(), this.getEndpointLimits(data.getContractPath()))
+                    .exceptionally(e -> this.createResponseFromException(unwrapException(e), catsRequest, data, System.currentTimeMillis() - requestStartTime));
+        } catch (IllegalStateException e) {
+            CatsResponse catsResponse = this.createResponseFromException(e, catsRequest, data, System.currentTimeMillis() - startTime);
+            this.recordServiceData(data);
+            this.recordRequest(catsRequest);
+
+            return CompletableFuture.completedFuture(catsResponse);
+        }
+    }
+
+    private CatsRequest createCatsRequest(ServiceData data) {
         this.recordServiceData(data);
 
         String processedPayload = this.replacePayloadWithRefData(data);
@@ -208,47 +296,40 @@ public class ServiceCaller {
         logger.debug("Payload replaced with ref data: {}", processedPayload);
 
         List<KeyValuePair<String, Object>> headers = this.buildHeaders(data);
-        CatsRequest catsRequest = CatsRequest.builder()
+        return CatsRequest.builder()
                 .headers(headers).payload(processedPayload)
                 .httpMethod(data.getHttpMethod().name())
                 .build();
+    }
 
-        long startTime = System.currentTimeMillis();
-        try {
-            String url = this.constructUrl(data, processedPayload);
-
-            catsRequest.setUrl(url);
-            this.recordRequest(catsRequest);
-
-            logger.note("Final list of request headers: {}", headers);
-            logger.note("Final payload: {}", processedPayload);
-            logger.note("Final url: {}", url);
-
-            startTime = System.currentTimeMillis();
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
-
-            this.recordResponse(response);
-            return response;
-        } catch (IOException | IllegalStateException e) {
-            long duration = System.currentTimeMillis() - startTime;
+    private void addUrlAndRecordRequest(CatsRequest catsRequest, ServiceData data) {
+        String url = this.constructUrl(data, catsRequest.getPayload());
 
-            CatsResponse.ExceptionalResponse exceptionalResponse = CatsResponse.getResponseByException(e);
+        catsRequest.setUrl(url);
+        this.recordRequest(catsRequest);
 
-            CatsResponse catsResponse = CatsResponse.builder()
-                    .body(exceptionalResponse.responseBody()).httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
-                    .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
-                    .fuzzedField(data.getFuzzedFields()
-                            .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+        logger.note("Final list of request headers: {}", catsRequest.getHeaders());
+        logger.note("Final payload: {}", catsRequest.getPayload());
+        logger.note("Final url: {}", url);
+    }
 
-            this.recordRequestAndResponse(catsRequest, catsResponse, data);
+    private static Exception unwrapException(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
+    }
 
-            logger.debug("Stacktrace from ServiceCaller", e);
+    private CatsResponse createResponseFromException(Exception e, CatsRequest catsRequest, ServiceData data, long duration) {
+        CatsResponse.ExceptionalResponse exceptionalResponse = CatsResponse.getResponseByException(e);
 
+        logger.debug("Stacktrace from ServiceCaller", e);
 
-            return catsResponse;
-        }
+        return CatsResponse.builder()
+                .body(exceptionalResponse.responseBody()).httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
+                .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
+                .fuzzedField(data.getFuzzedFields()
+                        .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
     }
 
     /**
@@ -358,10 +439,13 @@ public class ServiceCaller {
 
 
     List<KeyValuePair<String, Object>> buildHeaders(ServiceData data) {
-        List<KeyValuePair<String, Object>> headers = new ArrayList<>();
+        List<KeyValuePair<String, Object>> headers = new ArrayList<>(data.getHeaders().size() + 4);
+        Set<String> dataHeaderNames = data.getHeaders().stream()
+                .map(header -> header.getName().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
 
-        this.addMandatoryHeaders(data, headers);
-        this.addSuppliedHeaders(data, headers);
+        this.addMandatoryHeaders(data, dataHeaderNames, headers);
+        this.addSuppliedHeaders(data, dataHeaderNames, headers);
         this.removeSkippedHeaders(data, headers);
         this.addBasicAuth(headers);
 
@@ -421,8 +505,144 @@ public class ServiceCaller {
      * @throws IOException If an I/O error occurs during the service call.
      */
     public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
-        rateLimiter.acquire();
+        return this.callService(catsRequest, fuzzedFields, EndpointLimits.NONE);
+    }
+
+    private CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields, EndpointLimits limits) throws IOException {
+        limits.acquire();
+        this.acquireRatePermit();
+        this.acquireInFlightPermit();
+        try {
+            return this.executeRequest(catsRequest, fuzzedFields);
+        } catch (IOException e) {
+            this.recordRateFailure(e);
+            throw e;
+        } finally {
+            this.releaseInFlightPermit();
+            limits.release();
+        }
+    }
+
+    /**
+     * Limits only change when the rate limiters are initialized again, so they are created once per path.
+     */
+    private EndpointLimits getEndpointLimits(String contractPath) {
+        return endpointLimits.computeIfAbsent(String.valueOf(contractPath), path -> {
+            int maxRequestsPerMinute = filesArguments.getMaxRequestsPerMinute(contractPath);
+            int maxInFlight = filesArguments.getMaxInFlight(contractPath);
+            if (maxRequestsPerMinute == 0 && maxInFlight == 0) {
+                return EndpointLimits.NONE;
+            }
+            logger.debug("Path {} is limited to {} requests per minute and {} requests in flight", contractPath, maxRequestsPerMinute, maxInFlight);
+            return new EndpointLimits(maxRequestsPerMinute > 0 ? RateLimiter.create(1.0 * maxRequestsPerMinute / 60) : null,
+                    maxInFlight > 0 ? new Semaphore(maxInFlight, true) : null);
+        });
+    }
+
+    private void acquireRatePermit() {
+        if (adaptiveRateLimiter != null) {
+            adaptiveRateLimiter.acquire();
+        } else {
+            rateLimiter.acquire();
+        }
+    }
+
+    private void recordRateFeedback(Response response, long responseTimeInMs) {
+        if (adaptiveRateLimiter != null) {
+            adaptiveRateLimiter.onResponse(response.code(), responseTimeInMs, response.header("Retry-After"));
+        }
+    }
+
+    private void recordRateFailure(IOException e) {
+        if (adaptiveRateLimiter != null) {
+            adaptiveRateLimiter.onFailure(e);
+        }
+    }
+
+    private void acquireInFlightPermit() {
+        if (inFlightRequests != null) {
+            inFlightRequests.acquireUninterruptibly();
+        }
+    }
+
+    private void releaseInFlightPermit() {
+        if (inFlightRequests != null) {
+            inFlightRequests.release();
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #callService(CatsRequest, Set)}. The call is enqueued in the OkHttp dispatcher
+     * and the returned future is completed when the response is fully read.
+     * <p>
+     * The {@code --maxRequestsPerMinute} and {@code --maxInFlight} limits are applied on the calling thread
+     * before the call is enqueued, so callers are throttled in the same way as for synchronous calls.
+     * The logging context of the calling thread is restored on the OkHttp thread while the response is processed.
+     * </p>
+     *
+     * @param catsRequest  The CATS request to be sent to the service.
+     * @param fuzzedFields The set of fuzzed fields for the request.
+     * @return a future holding the CATS response received from the service or the failure cause
+     */
+    public CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, Set<String> fuzzedFields) {
+        return this.callServiceAsync(catsRequest, fuzzedFields, EndpointLimits.NONE);
+    }
+
+    private CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, Set<String> fuzzedFields, EndpointLimits limits) {
+        limits.acquire();
+        this.acquireRatePermit();
+        this.acquireInFlightPermit();
+
+        CompletableFuture<CatsResponse> result = new CompletableFuture<>();
+        Map<String, String> mdcContext = Optional.ofNullable(MDC.getCopyOfContextMap()).orElse(Collections.emptyMap());
         long startTime = System.currentTimeMillis();
+        try {
+            okHttpClient.newCall(this.buildRequest(catsRequest)).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    MDC.setContextMap(mdcContext);
+                    try {
+                        releaseInFlightPermit();
+                        limits.release();
+                        recordRateFailure(e);
+                        result.completeExceptionally(e);
+                    } finally {
+                        MDC.clear();
+                    }
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    MDC.setContextMap(mdcContext);
+                    try (response) {
+                        result.complete(toCatsResponse(response, catsRequest, fuzzedFields, startTime));
+                    } catch (IOException | RuntimeException e) {
+                        result.completeExceptionally(e);
+                    } finally {
+                        releaseInFlightPermit();
+                        limits.release();
+                        MDC.clear();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            this.releaseInFlightPermit();
+            limits.release();
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    private CatsResponse executeRequest(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        try (Response response = okHttpClient.newCall(this.buildRequest(catsRequest)).execute()) {
+            return this.toCatsResponse(response, catsRequest, fuzzedFields, startTime);
+        }
+    }
+
+    private Request buildRequest(CatsRequest catsRequest) {
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
@@ -434,26 +654,38 @@ public class ServiceCaller {
             headers.removeAll("Content-Type");
         }
 
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        return new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
-            long endTime = System.currentTimeMillis();
+                .build();
+    }
 
-            CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
-            CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(endTime - startTime)
-                    .path(catsRequest.getUrl())
-                    .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+    private CatsResponse toCatsResponse(Response response, CatsRequest catsRequest, Set<String> fuzzedFields, long startTime) throws IOException {
+        CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
+        long endTime = System.currentTimeMillis();
+        this.recordRateFeedback(response, endTime - startTime);
 
-            logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
-                    response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
-                    catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+        CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(endTime - startTime)
+                .path(catsRequest.getUrl())
+                .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
 
-            return catsResponse;
-        }
+        logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
+                response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
+                catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+
+        return catsResponse;
+    }
+
+    /**
+     * Returns the number of requests executors can send ahead before reporting the results of the earlier ones.
+     *
+     * @return the value of the {@code --pipelineDepth} argument when bigger than 1, 1 otherwise
+     */
+    public int getPipelineDepth() {
+        return apiArguments.isPipelined() ? apiArguments.getPipelineDepth() : 1;
     }
 
     private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
@@ -462,13 +694,13 @@ public class ServiceCaller {
                 .entrySet().stream()
                 .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().get(0))).toList();
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = JsonUtils.getAsJsonString(rawResponse);
+        StreamedResponseBody responseBody = StreamedResponseBody.read(response.body(), apiArguments.getMaxResponseBodyBytes());
+        String rawResponse = responseBody.body();
         String responseContentType = this.getResponseContentType(response);
 
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
-
+        if (responseBody.truncated()) {
+            logger.debug("Response body of {} bytes truncated to {} bytes", responseBody.contentLengthInBytes(), apiArguments.getMaxResponseBodyBytes());
+        }
         logger.debug("Raw response body: {}", rawResponse);
         logger.debug("Raw response headers: {}", response.headers());
 
@@ -476,11 +708,10 @@ public class ServiceCaller {
                 .responseCode(response.code())
                 .headers(responseHeaders)
                 .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
+                .numberOfLinesInResponse(responseBody.numberOfLines())
+                .contentLengthInBytes(responseBody.contentLengthInBytes())
                 .responseContentType(responseContentType)
-                .numberOfWordsInResponse(numberOfWords);
+                .numberOfWordsInResponse(responseBody.numberOfWords());
     }
 
     private String getResponseContentType(Response response) {
@@ -498,9 +729,13 @@ public class ServiceCaller {
     }
 
     private void removeSkippedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        for (String skippedHeader : data.getSkippedHeaders()) {
-            headers.removeIf(header -> header.getKey().equalsIgnoreCase(skippedHeader));
+        if (data.getSkippedHeaders().isEmpty()) {
+            return;
         }
+        Set<String> skippedHeaders = data.getSkippedHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        headers.removeIf(header -> skippedHeaders.contains(header.getKey().toLowerCase(Locale.ROOT)));
     }
 
 
@@ -525,20 +760,19 @@ public class ServiceCaller {
         return processedPath;
     }
 
-    private void addMandatoryHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
+    private void addMandatoryHeaders(ServiceData data, Set<String> dataHeaderNames, List<KeyValuePair<String, Object>> headers) {
         data.getHeaders().forEach(header -> headers.add(new KeyValuePair<>(header.getName(), header.getValue())));
-        addIfNotPresent(HttpHeaders.ACCEPT, processingArguments.getDefaultContentType(), data, headers);
-        addIfNotPresent(HttpHeaders.CONTENT_TYPE, this.getContentType(data.getHttpMethod(), data.getContentType()), data, headers);
-        addIfNotPresent(HttpHeaders.USER_AGENT, apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentFuzzer()), data, headers);
+        addIfNotPresent(HttpHeaders.ACCEPT, processingArguments.getDefaultContentType(), dataHeaderNames, headers);
+        addIfNotPresent(HttpHeaders.CONTENT_TYPE, this.getContentType(data.getHttpMethod(), data.getContentType()), dataHeaderNames, headers);
+        addIfNotPresent(HttpHeaders.USER_AGENT, apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentFuzzer()), dataHeaderNames, headers);
     }
 
     private String getContentType(HttpMethod method, String defaultContentType) {
         return method == HttpMethod.PATCH && processingArguments.isRfc7396() ? ProcessingArguments.JSON_PATCH : defaultContentType;
     }
 
-    private void addIfNotPresent(String headerName, String headerValue, ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        boolean exists = data.getHeaders().stream().noneMatch(catsHeader -> catsHeader.getName().equalsIgnoreCase(headerName));
-        if (exists) {
+    private static void addIfNotPresent(String headerName, String headerValue, Set<String> dataHeaderNames, List<KeyValuePair<String, Object>> headers) {
+        if (!dataHeaderNames.contains(headerName.toLowerCase(Locale.ROOT))) {
             headers.add(new KeyValuePair<>(headerName, headerValue));
         }
     }
@@ -563,22 +797,6 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    /**
-     * Retrieves the raw response body as a string from the provided HTTP response.
-     * If the response body is null, an empty string is returned.
-     *
-     * @param response The HTTP response containing the body to be extracted.
-     * @return The raw response body as a string, or an empty string if the body is null.
-     * @throws IOException If an I/O error occurs while reading the response body.
-     */
-    public String getAsRawString(Response response) throws IOException {
-        if (response.body() != null) {
-            return response.body().string();
-        }
-
-        return "";
-    }
-
     private void recordServiceData(ServiceData serviceData) {
         testCaseListener.addPath(serviceData.getContractPath());
         testCaseListener.addContractPath(serviceData.getContractPath());
@@ -600,35 +818,78 @@ public class ServiceCaller {
         this.recordResponse(catsResponse);
     }
 
-    private void addSuppliedHeaders(ServiceData data, List<KeyValuePair<String, Object>> headers) {
-        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(data.getContractPath());
-        logger.debug("Path {} (including ALL headers) has the following headers: {}", data.getContractPath(), userSuppliedHeaders);
-
-        Map<String, String> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> CatsDSLParser.parseAndGetResult(String.valueOf(entry.getValue()), authArguments.getAuthScriptAsMap())));
+    private void addSuppliedHeaders(ServiceData data, Set<String> dataHeaderNames, List<KeyValuePair<String, Object>> headers) {
+        SuppliedHeadersTemplate template = this.getSuppliedHeadersTemplate(data.getContractPath());
+        Map<String, KeyValuePair<String, Object>> headersToReplace = new LinkedHashMap<>();
 
-        for (Map.Entry<String, String> suppliedHeader : suppliedHeaders.entrySet()) {
+        for (SuppliedHeader suppliedHeader : template.headers()) {
+            String lowerCaseName = suppliedHeader.name().toLowerCase(Locale.ROOT);
             if (data.isAddUserHeaders()) {
-                this.replaceHeaderIfNotFuzzed(headers, data, suppliedHeader);
-            } else if (this.isSuppliedHeaderInFuzzData(data, suppliedHeader) || this.isAuthenticationHeader(suppliedHeader.getKey())) {
-                replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
+                headersToReplace.put(lowerCaseName, new KeyValuePair<>(suppliedHeader.name(), this.getSuppliedHeaderValue(headers, data, suppliedHeader)));
+            } else if (dataHeaderNames.contains(lowerCaseName) || suppliedHeader.authentication()) {
+                headersToReplace.put(lowerCaseName, new KeyValuePair<>(suppliedHeader.name(), this.resolveValue(suppliedHeader)));
             }
         }
+        replaceHeadersWithUserSuppliedHeaders(headers, headersToReplace);
     }
 
-    private static void replaceHeaderWithUserSuppliedHeader(List<KeyValuePair<String, Object>> headers, String headerName, Object headerValue) {
-        /* We need to make sure we add the same number of headers back as this is important for some Fuzzers*/
-        Predicate<KeyValuePair<String, Object>> headersToFilter = header -> header.getKey().equalsIgnoreCase(headerName);
-        long howManyHeadersToRemove = Math.max(headers.stream().filter(headersToFilter).count(), 1);
-        headers.removeIf(headersToFilter);
+    /**
+     * Supplied headers only change when the headers files are reloaded. The template keeps the headers for the given path
+     * with the values which are not DSL expressions already resolved, so that only dynamic values are evaluated for each request.
+     */
+    private SuppliedHeadersTemplate getSuppliedHeadersTemplate(String contractPath) {
+        Map<String, Object> userSuppliedHeaders = filesArguments.getHeaders(contractPath);
+        SuppliedHeadersTemplate template = suppliedHeadersTemplates.get(String.valueOf(contractPath));
+
+        if (template == null || !template.source().equals(userSuppliedHeaders)) {
+            logger.debug("Path {} (including ALL headers) has the following headers: {}", contractPath, userSuppliedHeaders);
+            List<SuppliedHeader> suppliedHeaders = userSuppliedHeaders.entrySet().stream()
+                    .map(entry -> this.createSuppliedHeader(entry.getKey(), String.valueOf(entry.getValue())))
+                    .toList();
+            template = new SuppliedHeadersTemplate(userSuppliedHeaders, suppliedHeaders);
+            suppliedHeadersTemplates.put(String.valueOf(contractPath), template);
+        }
+        return template;
+    }
 
-        LongStream.range(0, howManyHeadersToRemove)
-                .forEach(iteration -> headers.add(new KeyValuePair<>(headerName, headerValue)));
+    private SuppliedHeader createSuppliedHeader(String name, String value) {
+        boolean dynamic = CatsDSLParser.isDynamic(value);
+        String resolvedValue = dynamic ? value : CatsDSLParser.parseAndGetResult(value, Map.of());
+
+        return new SuppliedHeader(name, resolvedValue, dynamic, this.isAuthenticationHeader(name));
     }
 
-    private boolean isSuppliedHeaderInFuzzData(ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        return data.getHeaders().stream().anyMatch(catsHeader -> catsHeader.getName().equalsIgnoreCase(suppliedHeader.getKey()));
+    private String resolveValue(SuppliedHeader suppliedHeader) {
+        if (suppliedHeader.dynamic()) {
+            return CatsDSLParser.parseAndGetResult(suppliedHeader.value(), authArguments.getAuthScriptAsMap());
+        }
+        return suppliedHeader.value();
+    }
+
+    /**
+     * Each supplied header replaces all the headers with the same name, case-insensitive. We need to make sure we add the same number
+     * of headers back as this is important for some Fuzzers. Replaced headers are added at the end of the list.
+     */
+    private static void replaceHeadersWithUserSuppliedHeaders(List<KeyValuePair<String, Object>> headers, Map<String, KeyValuePair<String, Object>> headersToReplace) {
+        if (headersToReplace.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> replacedCount = new HashMap<>();
+        headers.removeIf(header -> {
+            String lowerCaseName = header.getKey().toLowerCase(Locale.ROOT);
+            if (headersToReplace.containsKey(lowerCaseName)) {
+                replacedCount.merge(lowerCaseName, 1, Integer::sum);
+                return true;
+            }
+            return false;
+        });
+
+        headersToReplace.forEach((lowerCaseName, header) -> {
+            int howManyHeadersToAdd = Math.max(replacedCount.getOrDefault(lowerCaseName, 0), 1);
+            for (int i = 0; i < howManyHeadersToAdd; i++) {
+                headers.add(new KeyValuePair<>(header.getKey(), header.getValue()));
+            }
+        });
     }
 
     /**
@@ -641,22 +902,82 @@ public class ServiceCaller {
         return AUTH_HEADERS.stream().anyMatch(authHeader -> header.toLowerCase().contains(authHeader));
     }
 
-    private void replaceHeaderIfNotFuzzed(List<KeyValuePair<String, Object>> headers, ServiceData data, Map.Entry<String, String> suppliedHeader) {
-        if (!data.getFuzzedHeaders().contains(suppliedHeader.getKey())) {
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), suppliedHeader.getValue());
-        } else {
-            /* There are 2 cases when we want to mix the supplied header with the fuzzed one: if the fuzzing is TRAIL or PREFIX we want to try this behaviour on a valid header value */
-            KeyValuePair<String, Object> existingHeader = headers.stream()
-                    .filter(header -> header.getKey().equalsIgnoreCase(suppliedHeader.getKey()))
-                    .findFirst()
-                    .orElse(new KeyValuePair<>("", ""));
+    private Object getSuppliedHeaderValue(List<KeyValuePair<String, Object>> headers, ServiceData data, SuppliedHeader suppliedHeader) {
+        String suppliedValue = this.resolveValue(suppliedHeader);
+        if (!data.getFuzzedHeaders().contains(suppliedHeader.name())) {
+            return suppliedValue;
+        }
+        /* There are 2 cases when we want to mix the supplied header with the fuzzed one: if the fuzzing is TRAIL or PREFIX we want to try this behaviour on a valid header value */
+        KeyValuePair<String, Object> existingHeader = headers.stream()
+                .filter(header -> header.getKey().equalsIgnoreCase(suppliedHeader.name()))
+                .findFirst()
+                .orElse(new KeyValuePair<>("", ""));
+
+        Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), suppliedValue);
+        logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", suppliedHeader.name(), finalHeaderValue);
+        return finalHeaderValue;
+    }
 
-            Object finalHeaderValue = FuzzingStrategy.mergeFuzzing(existingHeader.getValue(), suppliedHeader.getValue());
-            replaceHeaderWithUserSuppliedHeader(headers, suppliedHeader.getKey(), finalHeaderValue);
-            logger.debug("Header's [{}] fuzzing will merge with the supplied header value from headers.yml. Final header value {}", suppliedHeader.getKey(), finalHeaderValue);
+    /**
+     * Request rate and concurrency limits of a single path, applied on top of the global ones. Null limiters mean no limit.
+     */
+    record EndpointLimits(RateLimiter rateLimiter, Semaphore inFlightRequests) {
+        static final EndpointLimits NONE = new EndpointLimits(null, null);
+
+        void acquire() {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            if (inFlightRequests != null) {
+                inFlightRequests.acquireUninterruptibly();
+            }
+        }
+
+        void release() {
+            if (inFlightRequests != null) {
+                inFlightRequests.release();
+            }
         }
     }
 
+    record SuppliedHeadersTemplate(Map<String, Object> source, List<SuppliedHeader> headers) {
+    }
+
+    record SuppliedHeader(String name, String value, boolean dynamic, boolean authentication) {
+    }
+
+    /**
+     * Reference data only changes when the reference data file is reloaded. The template keeps the entries used to replace
+     * payload fields for the given path, with values which are not DSL expressions already resolved.
+     */
+    private RefDataTemplate getRefDataTemplate(String relativePath, Map<String, Object> refDataForCurrentPath) {
+        RefDataTemplate template = refDataTemplates.get(String.valueOf(relativePath));
+
+        if (template == null || !template.source().equals(refDataForCurrentPath)) {
+            List<RefDataEntry> entries = refDataForCurrentPath.entrySet().stream()
+                    .filter(entry -> !entry.getKey().matches(ADDITIONAL_PROPERTIES))
+                    .map(entry -> createRefDataEntry(entry.getKey(), entry.getValue()))
+                    .toList();
+            template = new RefDataTemplate(refDataForCurrentPath, entries);
+            refDataTemplates.put(String.valueOf(relativePath), template);
+        }
+        return template;
+    }
+
+    private static RefDataEntry createRefDataEntry(String key, Object value) {
+        if (value instanceof String str) {
+            boolean dynamic = CatsDSLParser.isDynamic(str);
+            return new RefDataEntry(key, dynamic ? str : CatsDSLParser.parseAndGetResult(str, Map.of()), dynamic);
+        }
+        return new RefDataEntry(key, value, false);
+    }
+
+    record RefDataTemplate(Map<String, Object> source, List<RefDataEntry> entries) {
+    }
+
+    record RefDataEntry(String key, Object value, boolean dynamic) {
+    }
+
     private String replacePathWithRefData(ServiceData data, String currentUrl) {
         Map<String, Object> currentPathRefData = filesArguments.getRefData(data.getRelativePath());
         logger.debug("Path reference data replacement: path {} has the following reference data: {}", data.getRelativePath(), currentPathRefData);
@@ -684,31 +1005,36 @@ public class ServiceCaller {
             Map<String, Object> refDataForCurrentPath = filesArguments.getRefData(data.getRelativePath());
             logger.debug("Payload reference data replacement: path {} has the following reference data: {}", data.getRelativePath(), refDataForCurrentPath);
 
-            Map<String, Object> refDataWithoutAdditionalProperties = refDataForCurrentPath.entrySet()
-                    .stream()
-                    .filter(stringStringEntry -> !stringStringEntry.getKey().matches(ADDITIONAL_PROPERTIES))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-            String payload = data.getPayload();
-
+            List<RefDataEntry> refDataEntries = this.getRefDataTemplate(data.getRelativePath(), refDataForCurrentPath).entries();
             /*this will override refData for DELETE requests in order to provide valid entities that will get deleted*/
-            refDataWithoutAdditionalProperties.putAll(this.getPathParamFromCorrespondingPostIfDelete(data));
+            Map<String, String> deleteParams = this.getPathParamFromCorrespondingPostIfDelete(data);
+            if (!deleteParams.isEmpty()) {
+                Map<String, RefDataEntry> entriesWithDeleteParams = new LinkedHashMap<>();
+                refDataEntries.forEach(entry -> entriesWithDeleteParams.put(entry.key(), entry));
+                deleteParams.forEach((key, value) -> entriesWithDeleteParams.put(key, createRefDataEntry(key, value)));
+                refDataEntries = List.copyOf(entriesWithDeleteParams.values());
+            }
 
-            for (Map.Entry<String, Object> entry : refDataWithoutAdditionalProperties.entrySet()) {
-                Object refDataValue = entry.getValue();
-                if (refDataValue instanceof String str) {
-                    refDataValue = CatsDSLParser.parseAndGetResult(str, Map.of(Parser.REQUEST, data.getPayload()));
-                }
+            String payload = data.getPayload();
+            /*the payload is parsed again only after it changes, so keys which are not present in the payload are cheap to skip*/
+            PayloadTemplate payloadTemplate = null;
+            for (RefDataEntry entry : refDataEntries) {
+                Object refDataValue = entry.dynamic() ? CatsDSLParser.parseAndGetResult((String) entry.value(), Map.of(Parser.REQUEST, data.getPayload())) : entry.value();
                 try {
                     if (CATS_REMOVE_FIELD.equalsIgnoreCase(String.valueOf(refDataValue))) {
-                        payload = JsonUtils.deleteNode(payload, entry.getKey());
-                    } else {
-
+                        payload = JsonUtils.deleteNode(payload, entry.key());
+                        payloadTemplate = null;
+                    } else if (StringUtils.isNotBlank(payload)) {
+                        payloadTemplate = payloadTemplate == null ? PayloadTemplate.of(payload) : payloadTemplate;
                         FuzzingStrategy fuzzingStrategy = FuzzingStrategy.replace().withData(refDataValue);
-                        boolean mergeFuzzing = data.getFuzzedFields().contains(entry.getKey());
-                        payload = FuzzingStrategy.replaceField(payload, entry.getKey(), fuzzingStrategy, mergeFuzzing).json();
+                        boolean mergeFuzzing = data.getFuzzedFields().contains(entry.key());
+                        payload = FuzzingStrategy.replaceField(payloadTemplate, entry.key(), fuzzingStrategy, mergeFuzzing).json();
+                        payloadTemplate = null;
+                    } else {
+                        payload = FuzzingResult.empty().json();
                     }
                 } catch (PathNotFoundException e) {
-                    logger.debug("Ref data key {} was not found within the payload!", entry.getKey());
+                    logger.debug("Ref data key {} was not found within the payload!", entry.key());
                 }
             }
 
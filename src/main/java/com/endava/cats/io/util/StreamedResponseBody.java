@@ -0,0 +1,134 @@
+package com.endava.cats.io.util;
+
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Holds the response body along with its size metrics, computed in a single pass over the HTTP response stream.
+ * <p>
+ * At most {@code maxBytes} are kept in memory. The rest of the body is still consumed in order to compute
+ * the length, number of words and number of lines, but it's discarded.
+ * </p>
+ *
+ * @param body                 the response body, possibly truncated
+ * @param contentLengthInBytes the total number of bytes received
+ * @param numberOfWords        the number of words, using the same delimiters as {@link java.util.StringTokenizer}
+ * @param numberOfLines        the number of lines
+ * @param truncated            whether the body was truncated to {@code maxBytes}
+ */
+public record StreamedResponseBody(String body, long contentLengthInBytes, int numberOfWords, int numberOfLines,
+                                   boolean truncated) {
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Reads the given response body keeping at most {@code maxBytes} in memory.
+     *
+     * @param responseBody the response body to read
+     * @param maxBytes     maximum number of bytes kept in memory; 0 or less means no limit
+     * @return the body content and metrics
+     * @throws IOException if something goes wrong while reading the body
+     */
+    public static StreamedResponseBody read(ResponseBody responseBody, long maxBytes) throws IOException {
+        if (responseBody == null) {
+            return new StreamedResponseBody("", 0, 0, 1, false);
+        }
+
+        Buffer retained = new Buffer();
+        TextCounter counter = new TextCounter();
+        long totalBytes = 0;
+        byte[] chunk = new byte[CHUNK_SIZE];
+
+        try (BufferedSource source = responseBody.source()) {
+            int read;
+            while ((read = source.read(chunk)) != -1) {
+                counter.count(chunk, read);
+                long toRetain = maxBytes > 0 ? Math.max(0, Math.min(read, maxBytes - totalBytes)) : read;
+                retained.write(chunk, 0, (int) toRetain);
+                totalBytes += read;
+            }
+        }
+
+        Charset charset = Optional.ofNullable(responseBody.contentType())
+                .map(mediaType -> mediaType.charset(StandardCharsets.UTF_8))
+                .orElse(StandardCharsets.UTF_8);
+
+        boolean truncated = retained.size() < totalBytes;
+        long completeBytes = truncated && StandardCharsets.UTF_8.equals(charset) ? completeUtf8Length(retained) : retained.size();
+
+        return new StreamedResponseBody(retained.readString(completeBytes, charset), totalBytes, counter.words, counter.lines(), truncated);
+    }
+
+    /**
+     * Returns the number of bytes up to the last complete UTF-8 sequence, so that a multibyte character
+     * split by truncation is dropped rather than decoded as a replacement character.
+     */
+    private static long completeUtf8Length(Buffer buffer) {
+        long size = buffer.size();
+        for (long index = size - 1; index >= Math.max(0, size - 4); index--) {
+            int current = buffer.getByte(index) & 0xFF;
+            if ((current & 0xC0) != 0x80) {
+                return index + utf8SequenceLength(current) > size ? index : size;
+            }
+        }
+        return size;
+    }
+
+    private static int utf8SequenceLength(int leadingByte) {
+        if (leadingByte >= 0xF0) {
+            return 4;
+        }
+        if (leadingByte >= 0xE0) {
+            return 3;
+        }
+        if (leadingByte >= 0xC0) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Counts words and lines over raw bytes. All delimiters are ASCII characters, which never appear
+     * inside multibyte UTF-8 sequences, so no decoding is needed.
+     * Line counting follows {@code String.split} semantics i.e. trailing empty lines are not counted.
+     */
+    private static final class TextCounter {
+        private int words;
+        private boolean inWord;
+        private int currentLine;
+        private int lastNonEmptyLine = -1;
+        private boolean anyLineDelimiter;
+
+        void count(byte[] bytes, int length) {
+            for (int i = 0; i < length; i++) {
+                byte current = bytes[i];
+                if (isWordDelimiter(current)) {
+                    inWord = false;
+                } else if (!inWord) {
+                    inWord = true;
+                    words++;
+                }
+
+                if (current == '\r' || current == '\n') {
+                    anyLineDelimiter = true;
+                    currentLine++;
+                } else {
+                    lastNonEmptyLine = currentLine;
+                }
+            }
+        }
+
+        int lines() {
+            return anyLineDelimiter ? lastNonEmptyLine + 1 : 1;
+        }
+
+        private static boolean isWordDelimiter(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+        }
+    }
+}
@@ -1,37 +1,58 @@
 package com.endava.cats.model;
 
 import com.endava.cats.model.ann.Exclude;
+import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.util.WordUtils;
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.ProtocolException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Model class used to hold http response details.
+ * <p>
+ * When a {@code jsonBody} is not explicitly supplied, it is lazily parsed from the {@code body} on first access.
+ * Most responses are never matched against a schema, so this avoids building a JSON tree for each of them.
+ * </p>
  */
 @Builder
 @Getter
+@JsonAdapter(CatsResponse.JsonBodyTypeAdapterFactory.class)
 public class CatsResponse {
     private static final String UNKNOWN_MEDIA_TYPE = "unknown/unknown";
     private static final Exception EMPTY_EXCEPTION = new Exception("");
     private static final int INVALID_ERROR_CODE = 999;
+    private static final LongAdder JSON_BODY_PARSE_COUNT = new LongAdder();
+    private static final LongAdder JSON_BODY_PARSE_TIME_IN_NANOS = new LongAdder();
     private final int responseCode;
     private final String httpMethod;
     private final long responseTimeInMs;
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
+    private volatile JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
     private final String responseContentType;
 
@@ -66,6 +87,40 @@ public class CatsResponse {
         return CatsResponse.from(INVALID_ERROR_CODE, "{}", "", 0);
     }
 
+    /**
+     * Returns the response body as a JSON element. If the body is not a valid JSON,
+     * it is wrapped as a {@code notAJson} JSON object. The JSON is parsed only once, on the first call.
+     *
+     * @return the response body as JSON or null if there is no response body
+     */
+    public JsonElement getJsonBody() {
+        if (jsonBody == null && body != null) {
+            long startTime = System.nanoTime();
+            jsonBody = JsonParser.parseString(JsonUtils.getAsJsonString(body));
+            JSON_BODY_PARSE_TIME_IN_NANOS.add(System.nanoTime() - startTime);
+            JSON_BODY_PARSE_COUNT.increment();
+        }
+        return jsonBody;
+    }
+
+    /**
+     * Returns the number of response bodies lazily parsed as JSON.
+     *
+     * @return the number of JSON parses
+     */
+    public static long getJsonBodyParseCount() {
+        return JSON_BODY_PARSE_COUNT.sum();
+    }
+
+    /**
+     * Returns the total time spent lazily parsing response bodies as JSON.
+     *
+     * @return the total parsing time in milliseconds
+     */
+    public static long getJsonBodyParseTimeInMs() {
+        return TimeUnit.NANOSECONDS.toMillis(JSON_BODY_PARSE_TIME_IN_NANOS.sum());
+    }
+
     /**
      * Retrieves the HTTP response code as a string representation.
      *
@@ -221,4 +276,78 @@ public class CatsResponse {
     public static class CatsResponseBuilder {
         //ntd
     }
+
+    /**
+     * Gson serializes fields directly, so this makes sure the lazy {@code jsonBody} is included when the response is serialized.
+     * When the body was not parsed yet and is a valid JSON, it is written as it is, without building a JSON tree.
+     */
+    public static final class JsonBodyTypeAdapterFactory implements TypeAdapterFactory {
+        private static final String JSON_BODY_FIELD = "jsonBody";
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+            TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+
+            return new TypeAdapter<>() {
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value instanceof CatsResponse catsResponse && catsResponse.jsonBody == null && catsResponse.body != null) {
+                        if (isJsonObjectOrArray(catsResponse.body)) {
+                            writeWithRawJsonBody(out, delegate.toJsonTree(value).getAsJsonObject(), catsResponse.body);
+                            return;
+                        }
+                        catsResponse.getJsonBody();
+                    }
+                    delegate.write(out, value);
+                }
+
+                private void writeWithRawJsonBody(JsonWriter out, JsonObject response, String body) throws IOException {
+                    out.beginObject();
+                    for (Map.Entry<String, JsonElement> entry : response.entrySet()) {
+                        out.name(entry.getKey());
+                        if (JSON_BODY_FIELD.equals(entry.getKey())) {
+                            out.jsonValue(body);
+                        } else {
+                            elementAdapter.write(out, entry.getValue());
+                        }
+                    }
+                    out.endObject();
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+
+        /**
+         * Checks that the given text is a single JSON object or array by streaming through its tokens.
+         */
+        private static boolean isJsonObjectOrArray(String text) {
+            try (JsonReader reader = new JsonReader(new StringReader(text))) {
+                JsonToken firstToken = reader.peek();
+                if (firstToken != JsonToken.BEGIN_OBJECT && firstToken != JsonToken.BEGIN_ARRAY) {
+                    return false;
+                }
+                JsonToken token;
+                while ((token = reader.peek()) != JsonToken.END_DOCUMENT) {
+                    switch (token) {
+                        case BEGIN_OBJECT -> reader.beginObject();
+                        case END_OBJECT -> reader.endObject();
+                        case BEGIN_ARRAY -> reader.beginArray();
+                        case END_ARRAY -> reader.endArray();
+                        case NAME -> reader.nextName();
+                        case BOOLEAN -> reader.nextBoolean();
+                        case NULL -> reader.nextNull();
+                        default -> reader.nextString();
+                    }
+                }
+                return true;
+            } catch (IOException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
 }
@@ -47,16 +47,27 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
 
     @Override
     public int compareTo(CatsTestCaseSummary o) {
-        String o1StringPart = this.id.replaceAll("\\d", "");
-        String o2StringPart = o.id.replaceAll("\\d", "");
+        return compareIds(this.id, o.id);
+    }
+
+    /**
+     * Compares two test ids, such that ids with the same text are ordered by their number: {@code Test 2} before {@code Test 10}.
+     *
+     * @param firstId  the first test id
+     * @param secondId the second test id
+     * @return a negative number, zero or a positive number as the first id is ordered before, same as, or after the second id
+     */
+    public static int compareIds(String firstId, String secondId) {
+        String o1StringPart = firstId.replaceAll("\\d", "");
+        String o2StringPart = secondId.replaceAll("\\d", "");
 
         if (o1StringPart.equalsIgnoreCase(o2StringPart)) {
-            return extractInt(this.id) - extractInt(o.id);
+            return extractInt(firstId) - extractInt(secondId);
         }
-        return this.id.compareTo(o.id);
+        return firstId.compareTo(secondId);
     }
 
-    private int extractInt(String s) {
+    private static int extractInt(String s) {
         String num = s.replaceAll("\\D", "");
         return num.isEmpty() ? 0 : Integer.parseInt(num);
     }
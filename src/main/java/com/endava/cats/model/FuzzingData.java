@@ -3,6 +3,7 @@ package com.endava.cats.model;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.CatsModelUtils;
+import com.endava.cats.util.PayloadTemplate;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,7 +53,7 @@ public class FuzzingData {
     private final String reqSchemaName;
     /*these are cached after the first computation*/
     private Set<String> allFields;
-    private Set<Set<String>> allFieldsSetOfSets;
+    private Subsets<String> allFieldsSubsets;
     private List<String> allRequiredFields;
     private Set<CatsField> allFieldsAsCatsFields;
     private Set<String> allReadOnlyFields;
@@ -60,6 +62,8 @@ public class FuzzingData {
     private Set<String> targetFields;
     private int selfReferenceDepth;
     private String pathParamsPayload;
+    @ToString.Exclude
+    private PayloadTemplate payloadTemplate;
 
     @Builder.Default
     private final Map<String, List<String>> responseContentTypes = Collections.emptyMap();
@@ -257,6 +261,21 @@ public class FuzzingData {
         return getAllFields().stream().filter(field -> !this.getAllWriteOnlyFields().contains(field)).collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the payload parsed as a template which can be used to create fuzzed payloads without parsing the payload again.
+     * The template is computed once and re-created only if the payload changes in copies created using {@code toBuilder()}.
+     *
+     * @return the payload as a template
+     */
+    public PayloadTemplate getPayloadTemplate() {
+        String currentPayload = this.getPayload();
+        if (payloadTemplate == null || !Objects.equals(payloadTemplate.getPayload(), currentPayload)) {
+            payloadTemplate = PayloadTemplate.of(currentPayload);
+        }
+
+        return payloadTemplate;
+    }
+
     private Set<String> getAllFields() {
         if (allFields == null) {
             allFields = this.getAllFieldsAsCatsFields().stream().map(CatsField::getName).collect(Collectors.toSet());
@@ -266,24 +285,22 @@ public class FuzzingData {
     }
 
     /**
-     * Gets a set of sets of field names based on the specified set fuzzing strategy and maximum fields to remove.
+     * Gets the sets of field names based on the specified set fuzzing strategy and maximum fields to remove.
+     * Sets are produced lazily, one at a time, as the number of sets grows exponentially with the number of fields.
      *
      * @param setFuzzingStrategy The set fuzzing strategy to determine how sets of fields are generated.
      * @param maxFieldsToRemove  The maximum number of fields to remove when using the specified strategy.
-     * @return A set of sets of field names generated using the specified set fuzzing strategy.
+     * @return The sets of field names generated using the specified set fuzzing strategy.
      */
-    public Set<Set<String>> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
-        if (allFieldsSetOfSets == null) {
-
-            Set<Set<String>> sets = switch (setFuzzingStrategy) {
-                case POWERSET -> SetFuzzingStrategy.powerSet(this.getAllFields());
-                case SIZE -> SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
-                default -> SetFuzzingStrategy.removeOneByOne(this.getAllFields());
+    public Subsets<String> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
+        if (allFieldsSubsets == null) {
+            allFieldsSubsets = switch (setFuzzingStrategy) {
+                case POWERSET -> Subsets.all(this.getAllFields());
+                case SIZE -> Subsets.upToSize(this.getAllFields(), SetFuzzingStrategy.normalizeMaxFieldsToRemove(this.getAllFields(), maxFieldsToRemove));
+                default -> Subsets.singletons(this.getAllFields());
             };
-            sets.remove(Collections.emptySet());
-            allFieldsSetOfSets = sets;
         }
-        return allFieldsSetOfSets;
+        return allFieldsSubsets;
     }
 
     /**
@@ -343,70 +360,15 @@ public class FuzzingData {
         }
 
 
-        /**
-         * Returns all possible subsets of size K of the given list
-         *
-         * @param elements list of elements to accumulate
-         * @param k        size
-         * @return a set of sets
-         */
-        private static Set<Set<String>> getAllSubsetsOfSize(List<String> elements, int k) {
-            List<List<String>> result = new ArrayList<>();
-            backtrack(elements, k, 0, result, new ArrayList<>());
-            return result.stream().map(HashSet::new).collect(Collectors.toSet());
-        }
-
-        private static void backtrack(List<String> elements, int k, int startIndex, List<List<String>> result,
-                                      List<String> partialList) {
-            if (k == partialList.size()) {
-                result.add(new ArrayList<>(partialList));
-                return;
-            }
-            for (int i = startIndex; i < elements.size(); i++) {
-                partialList.add(elements.get(i));
-                backtrack(elements, k, i + 1, result, partialList);
-                partialList.remove(partialList.size() - 1);
-            }
-        }
-
-
-        /**
-         * Returns a Set of sets with possibilities of removing one field at a time form the original set.
-         *
-         * @param elements a given Set
-         * @param <T>      the type of the elements
-         * @return a Set of incremental Sets obtained by removing one element at a time from the original Set
-         */
-        public static <T> Set<Set<T>> removeOneByOne(Set<T> elements) {
-            Set<Set<T>> result = new HashSet<>();
-            for (T t : elements) {
-                Set<T> subset = new HashSet<>();
-                subset.add(t);
-                result.add(subset);
-            }
-            return result;
-        }
-
-        /**
-         * Returns all the sets obtained by removing at max {@code maxFieldsToRemove}
-         *
-         * @param allFields         all fields from the request, including fully qualified fields
-         * @param maxFieldsToRemove number of max fields to remove
-         * @return a Set of Sets with all fields combinations
-         */
-        public static Set<Set<String>> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
-            Set<Set<String>> sets = new HashSet<>();
+        private static int normalizeMaxFieldsToRemove(Set<String> allFields, int maxFieldsToRemove) {
             if (maxFieldsToRemove == 0) {
                 LOGGER.note("fieldsSubsetMinSize is ZERO, the value will be changed to {}", allFields.size() / 2);
-                maxFieldsToRemove = allFields.size() / 2;
+                return allFields.size() / 2;
             } else if (allFields.size() < maxFieldsToRemove) {
                 LOGGER.note("fieldsSubsetMinSize is bigger than the number of fields, the value will be changed to {}", allFields.size());
-                maxFieldsToRemove = allFields.size();
-            }
-            for (int i = maxFieldsToRemove; i >= 1; i--) {
-                sets.addAll(getAllSubsetsOfSize(new ArrayList<>(allFields), i));
+                return allFields.size();
             }
-            return sets;
+            return maxFieldsToRemove;
         }
     }
 
@@ -0,0 +1,220 @@
+package com.endava.cats.model;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Lazily enumerates the non-empty subsets of a collection, up to a given subset size.
+ * <p>
+ * Subsets are produced one at a time, from the largest size down to single elements, by walking the combinations of element indexes
+ * for each size. Only the current combination is kept in memory, so the number of elements doesn't limit the enumeration, only the
+ * time needed to consume it. When the number of subsets is too big, {@link #sample(int, Random)} returns a random sample of them.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class Subsets<T> implements Iterable<Set<T>> {
+    private final List<T> elements;
+    private final int maxSize;
+    private final BigInteger[] subsetsPerSize;
+    private final BigInteger count;
+
+    private Subsets(Collection<T> elements, int maxSize) {
+        this.elements = List.copyOf(elements);
+        this.maxSize = Math.max(0, Math.min(maxSize, this.elements.size()));
+        this.subsetsPerSize = new BigInteger[this.maxSize + 1];
+        BigInteger total = BigInteger.ZERO;
+        BigInteger binomial = BigInteger.ONE;
+        for (int size = 1; size <= this.maxSize; size++) {
+            binomial = binomial.multiply(BigInteger.valueOf(this.elements.size() - size + 1L)).divide(BigInteger.valueOf(size));
+            subsetsPerSize[size] = binomial;
+            total = total.add(binomial);
+        }
+        this.count = total;
+    }
+
+    /**
+     * All the non-empty subsets of the given elements.
+     *
+     * @param elements the elements
+     * @param <T>      the type of the elements
+     * @return the subsets of all sizes
+     */
+    public static <T> Subsets<T> all(Collection<T> elements) {
+        return new Subsets<>(elements, elements.size());
+    }
+
+    /**
+     * All the non-empty subsets of the given elements having at most {@code maxSize} elements.
+     *
+     * @param elements the elements
+     * @param maxSize  the maximum size of a subset
+     * @param <T>      the type of the elements
+     * @return the subsets having at most maxSize elements
+     */
+    public static <T> Subsets<T> upToSize(Collection<T> elements, int maxSize) {
+        return new Subsets<>(elements, maxSize);
+    }
+
+    /**
+     * One subset for each of the given elements.
+     *
+     * @param elements the elements
+     * @param <T>      the type of the elements
+     * @return the subsets having exactly one element
+     */
+    public static <T> Subsets<T> singletons(Collection<T> elements) {
+        return new Subsets<>(elements, 1);
+    }
+
+    /**
+     * Returns the number of subsets, without enumerating them.
+     *
+     * @return the number of subsets
+     */
+    public BigInteger count() {
+        return count;
+    }
+
+    /**
+     * Returns at most {@code maxSubsets} distinct subsets picked uniformly at random, or all the subsets if there aren't more than that.
+     * Sampled subsets are produced lazily, only the ones already produced are kept in order to avoid duplicates.
+     *
+     * @param maxSubsets the maximum number of subsets; 0 or less means no limit
+     * @param random     the source of randomness
+     * @return the sampled subsets
+     */
+    public Iterable<Set<T>> sample(int maxSubsets, Random random) {
+        if (maxSubsets <= 0 || count.compareTo(BigInteger.valueOf(maxSubsets)) <= 0) {
+            return this;
+        }
+        return () -> new SampleIterator(maxSubsets, random);
+    }
+
+    @Override
+    public Iterator<Set<T>> iterator() {
+        return new CombinationsIterator();
+    }
+
+    private Set<T> toSet(int[] indexes) {
+        Set<T> subset = new HashSet<>(indexes.length * 2);
+        for (int index : indexes) {
+            subset.add(elements.get(index));
+        }
+        return subset;
+    }
+
+    private static int[] firstCombination(int size) {
+        int[] combination = new int[Math.max(size, 0)];
+        for (int i = 0; i < combination.length; i++) {
+            combination[i] = i;
+        }
+        return combination;
+    }
+
+    private final class CombinationsIterator implements Iterator<Set<T>> {
+        private int size = maxSize;
+        private int[] indexes = firstCombination(maxSize);
+
+        @Override
+        public boolean hasNext() {
+            return size > 0;
+        }
+
+        @Override
+        public Set<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Set<T> subset = toSet(indexes);
+            this.advance();
+            return subset;
+        }
+
+        private void advance() {
+            int position = size - 1;
+            while (position >= 0 && indexes[position] == elements.size() - size + position) {
+                position--;
+            }
+            if (position < 0) {
+                size--;
+                indexes = firstCombination(size);
+                return;
+            }
+            indexes[position]++;
+            for (int next = position + 1; next < size; next++) {
+                indexes[next] = indexes[next - 1] + 1;
+            }
+        }
+    }
+
+    private final class SampleIterator implements Iterator<Set<T>> {
+        private final int maxSubsets;
+        private final Random random;
+        private final Set<BitSet> sampled = new HashSet<>();
+
+        SampleIterator(int maxSubsets, Random random) {
+            this.maxSubsets = maxSubsets;
+            this.random = random;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sampled.size() < maxSubsets;
+        }
+
+        @Override
+        public Set<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BitSet subset;
+            do {
+                subset = this.randomSubset();
+            } while (!sampled.add(subset));
+
+            return toSet(subset.stream().toArray());
+        }
+
+        /**
+         * Picks the size with a probability proportional to the number of subsets of that size, so that all subsets are equally likely.
+         */
+        private BitSet randomSubset() {
+            BigInteger position = this.randomBelow(count);
+            int size = maxSize;
+            while (position.compareTo(subsetsPerSize[size]) >= 0) {
+                position = position.subtract(subsetsPerSize[size]);
+                size--;
+            }
+            return this.randomCombination(size);
+        }
+
+        /**
+         * Floyd's algorithm for picking {@code size} distinct indexes.
+         */
+        private BitSet randomCombination(int size) {
+            int elementsCount = elements.size();
+            BitSet combination = new BitSet(elementsCount);
+            for (int candidate = elementsCount - size; candidate < elementsCount; candidate++) {
+                int index = random.nextInt(candidate + 1);
+                combination.set(combination.get(index) ? candidate : index);
+            }
+            return combination;
+        }
+
+        private BigInteger randomBelow(BigInteger bound) {
+            BigInteger value;
+            do {
+                value = new BigInteger(bound.bitLength(), random);
+            } while (value.compareTo(bound) >= 0);
+            return value;
+        }
+    }
+}
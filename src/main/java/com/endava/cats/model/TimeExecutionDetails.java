@@ -18,4 +18,8 @@ public class TimeExecutionDetails {
     private final TimeExecution bestCase;
     private final TimeExecution worstCase;
     private final double average;
+    private final long percentile50;
+    private final long percentile90;
+    private final long percentile99;
+    private final long percentile999;
 }
\ No newline at end of file
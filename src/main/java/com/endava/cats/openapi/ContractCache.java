@@ -0,0 +1,214 @@
+package com.endava.cats.openapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.gson.Gson;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk cache of parsed contracts, used to skip parsing, resolving and flattening the contract on subsequent runs.
+ * <p>
+ * Each entry is keyed by a SHA-256 hash of the contract, the local files it references and the swagger parser version.
+ * An entry holds a metadata line with the OpenAPI version and parse messages, followed by the resolved and flattened model serialized as JSON.
+ * Cached entries are loaded without resolving and flattening again, which is where most of the parsing time goes for large contracts.
+ * Only local contracts are cached. Entries which cannot be read are ignored and the contract is parsed again.
+ * </p>
+ */
+public final class ContractCache {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(ContractCache.class);
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final Pattern EXTERNAL_REF = Pattern.compile("\\$ref['\"]?\\s*:\\s*['\"]?([^'\"#\\s,}]+)");
+    private static final Gson COMPACT_GSON = new Gson();
+    private static final ObjectMapper JSON_MAPPER = withBytesAsText(Json.mapper());
+    private static final ObjectMapper JSON31_MAPPER = withBytesAsText(Json31.mapper());
+
+    private final Path folder;
+    private final String location;
+    private Path cacheEntry;
+
+    /**
+     * Creates a new cache for the given contract, storing entries in the given folder. The folder is created when the first entry is stored.
+     *
+     * @param folder   the cache folder
+     * @param location the location of the contract
+     */
+    public ContractCache(Path folder, String location) {
+        this.folder = folder;
+        this.location = location;
+    }
+
+    /**
+     * Checks if the given contract location can be cached. Remote contracts are not cached.
+     *
+     * @param location the location of the contract
+     * @return true if the contract is a local file, false otherwise
+     */
+    public static boolean isCacheable(String location) {
+        return location != null && !location.startsWith("http") && Files.isRegularFile(Path.of(location));
+    }
+
+    /**
+     * Computes the cache key of the given contract. The key changes when the contract, any local file referenced through
+     * {@code $ref} or the swagger parser version changes.
+     *
+     * @param location the location of the contract
+     * @return the hex encoded key
+     * @throws IOException if the contract or one of the referenced files cannot be read
+     */
+    static String computeKey(String location) throws IOException {
+        MessageDigest digest = newDigest();
+        digest.update((CACHE_FORMAT_VERSION + ":" + OpenAPIV3Parser.class.getPackage().getImplementationVersion()).getBytes(StandardCharsets.UTF_8));
+
+        Deque<Path> toHash = new ArrayDeque<>(List.of(Path.of(location).toAbsolutePath().normalize()));
+        Set<Path> hashed = new HashSet<>();
+        while (!toHash.isEmpty()) {
+            Path file = toHash.pop();
+            if (!hashed.add(file) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            byte[] content = Files.readAllBytes(file);
+            digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(content);
+
+            Matcher matcher = EXTERNAL_REF.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String reference = matcher.group(1);
+                if (!reference.startsWith("http")) {
+                    toHash.push(file.resolveSibling(reference).normalize());
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Reads the parse result of the contract from the cache.
+     *
+     * @return the cached parse result or empty if the contract is not cached or the cached entry cannot be read
+     */
+    public Optional<OpenApiParseResult> read() {
+        try {
+            Path entry = this.entryPath();
+            if (!Files.isRegularFile(entry)) {
+                return Optional.empty();
+            }
+            try (BufferedReader reader = Files.newBufferedReader(entry, StandardCharsets.UTF_8)) {
+                Metadata metadata = COMPACT_GSON.fromJson(reader.readLine(), Metadata.class);
+                OpenApiParseResult.OpenApiVersion version = OpenApiParseResult.OpenApiVersion.valueOf(metadata.version());
+                SwaggerParseResult swaggerParseResult = new OpenAPIV3Parser().readContents(readRemaining(reader), null, new ParseOptions());
+                if (swaggerParseResult.getOpenAPI() == null) {
+                    return Optional.empty();
+                }
+                swaggerParseResult.setMessages(metadata.messages());
+                OpenApiParseResult result = new OpenApiParseResult();
+                result.setVersion(version);
+                result.setSwaggerParseResult(swaggerParseResult);
+                LOGGER.debug("Loaded contract {} from cache {}", location, entry);
+                return Optional.of(result);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to read cached contract {}: {}", location, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given parse result of the contract in the cache. Results without an OpenAPI model are not stored.
+     *
+     * @param parseResult the parse result of the contract
+     */
+    public void write(OpenApiParseResult parseResult) {
+        OpenAPI openAPI = parseResult.getSwaggerParseResult().getOpenAPI();
+        if (openAPI == null) {
+            return;
+        }
+        try {
+            Path entry = this.entryPath();
+            Files.createDirectories(folder);
+            Path tempFile = Files.createTempFile(folder, entry.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(COMPACT_GSON.toJson(new Metadata(parseResult.getVersion().name(), parseResult.getSwaggerParseResult().getMessages())));
+                writer.newLine();
+                mapperFor(parseResult.getVersion()).writeValue(writer, openAPI);
+            }
+            Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Stored contract {} in cache {}", location, entry);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Unable to cache contract {}: {}", location, e.getMessage());
+        }
+    }
+
+    private Path entryPath() throws IOException {
+        if (cacheEntry == null) {
+            cacheEntry = folder.resolve(computeKey(location) + CACHE_FILE_EXTENSION);
+        }
+        return cacheEntry;
+    }
+
+    private static String readRemaining(BufferedReader reader) throws IOException {
+        StringWriter content = new StringWriter();
+        reader.transferTo(content);
+        return content.toString();
+    }
+
+    private static ObjectMapper mapperFor(OpenApiParseResult.OpenApiVersion version) {
+        return version == OpenApiParseResult.OpenApiVersion.V31 ? JSON31_MAPPER : JSON_MAPPER;
+    }
+
+    /**
+     * The parser keeps {@code byte} and {@code binary} examples as the bytes of the example text.
+     * These are written back as text, otherwise they would be base64 encoded once more each time the entry is loaded.
+     */
+    private static ObjectMapper withBytesAsText(ObjectMapper mapper) {
+        SimpleModule bytesAsText = new SimpleModule();
+        bytesAsText.addSerializer(byte[].class, new JsonSerializer<>() {
+            @Override
+            public void serialize(byte[] value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+                generator.writeString(new String(value, StandardCharsets.UTF_8));
+            }
+        });
+        return mapper.copy().registerModule(bytesAsText);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Metadata(String version, List<String> messages) {
+    }
+}
@@ -75,6 +75,43 @@ public abstract class OpenApiUtils {
         return readAsParseResult(location).getSwaggerParseResult().getOpenAPI();
     }
 
+    /**
+     * Reads an OpenAPI spec file, using the given folder to cache the parsed contract between runs.
+     *
+     * @param location         the location of the OpenAPI spec
+     * @param contractCacheDir the folder used to cache parsed contracts; if null, the contract is always parsed
+     * @return an OpenAPI object with all details from the OpenAPI spec
+     * @throws IOException if there is a problem accessing the spec file
+     * @see #readAsParseResult(String, String)
+     */
+    public static OpenAPI readOpenApi(String location, String contractCacheDir) throws IOException {
+        return readAsParseResult(location, contractCacheDir).getSwaggerParseResult().getOpenAPI();
+    }
+
+    /**
+     * Reads an OpenAPI spec file, using the given folder to cache the parsed contract between runs.
+     * The cached contract is reused as long as the contract and the local files it references don't change.
+     * Remote contracts are not cached.
+     *
+     * @param location         the location of the OpenAPI spec
+     * @param contractCacheDir the folder used to cache parsed contracts; if null, the contract is always parsed
+     * @return an SwaggerParseResult having both OpenAPI spec details and parse result error messages
+     * @throws IOException if there is a problem accessing the spec file
+     */
+    public static OpenApiParseResult readAsParseResult(String location, String contractCacheDir) throws IOException {
+        if (contractCacheDir == null || !ContractCache.isCacheable(location)) {
+            return readAsParseResult(location);
+        }
+        ContractCache contractCache = new ContractCache(Paths.get(contractCacheDir), location);
+        Optional<OpenApiParseResult> cached = contractCache.read();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        OpenApiParseResult parseResult = readAsParseResult(location);
+        contractCache.write(parseResult);
+        return parseResult;
+    }
+
     /**
      * Reads an OpenAPI spec file. Can parse both 2.x and 3.x specs.
      *
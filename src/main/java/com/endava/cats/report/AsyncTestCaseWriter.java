@@ -0,0 +1,118 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes individual test cases to the report on a background thread, so that fuzzing threads don't wait for disk I/O.
+ * <p>
+ * Test cases are kept in a bounded queue and written in batches. When the queue is full, submitting a new test case
+ * blocks until the writer catches up, which keeps memory bounded. Closing the writer waits until all queued test cases
+ * are written. Test cases submitted after closing are written on the calling thread.
+ * </p>
+ */
+class AsyncTestCaseWriter implements AutoCloseable {
+    private static final int BATCH_SIZE = 64;
+    private static final long POLL_INTERVAL_IN_MS = 100;
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AsyncTestCaseWriter.class);
+    private final TestCaseExporter testCaseExporter;
+    private final BlockingQueue<CatsTestCase> pendingTestCases;
+    private final Thread writerThread;
+    /* submitters share the read lock while queueing, so closing can't happen between checking the flag and queueing */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    /**
+     * Creates a new writer and starts the background thread.
+     *
+     * @param testCaseExporter the exporter used to write test cases
+     * @param queueSize        the maximum number of test cases waiting to be written
+     */
+    AsyncTestCaseWriter(TestCaseExporter testCaseExporter, int queueSize) {
+        this.testCaseExporter = testCaseExporter;
+        this.pendingTestCases = new ArrayBlockingQueue<>(queueSize);
+        this.writerThread = new Thread(this::writeLoop, "cats-report-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues the given test case for writing. Blocks if the queue is full.
+     * If the writer is closed or the current thread is interrupted, the test case is written on the calling thread.
+     *
+     * @param testCase the test case to write
+     */
+    void submit(CatsTestCase testCase) {
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                pendingTestCases.put(testCase);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        this.write(testCase);
+    }
+
+    private void writeLoop() {
+        List<CatsTestCase> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !pendingTestCases.isEmpty()) {
+            try {
+                CatsTestCase first = pendingTestCases.poll(POLL_INTERVAL_IN_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pendingTestCases.drainTo(batch, BATCH_SIZE - 1);
+                    batch.forEach(this::write);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(CatsTestCase testCase) {
+        try {
+            testCaseExporter.writeTestCase(testCase);
+        } catch (RuntimeException e) {
+            logger.error("There was a problem writing test case {}: {}", testCase.getTestId(), e.getMessage());
+            logger.debug("Stacktrace", e);
+        }
+    }
+
+    /**
+     * Waits until all queued test cases are written and stops the background thread.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        /*in case the writer thread was interrupted*/
+        CatsTestCase remaining;
+        while ((remaining = pendingTestCases.poll()) != null) {
+            this.write(remaining);
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.dsl.CatsDSLParser;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 import org.fusesource.jansi.Ansi;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Listener for tracking execution statistics of CATS tests, including errors, warnings, successes, and skipped tests.
+ * Statistics can be updated concurrently when fuzzers run in parallel.
  */
 @ApplicationScoped
 @DryRun
@@ -33,40 +35,65 @@ public class ExecutionStatisticsListener {
     /**
      * Count of skipped tests.
      */
-    @Getter
-    private int skipped;
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
      * Count of authentication errors.
      */
-    @Getter
-    private int authErrors;
+    private final AtomicInteger authErrors = new AtomicInteger();
 
     /**
      * Count of I/O errors.
      */
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger ioErrors = new AtomicInteger();
 
     /**
-     * Increases the count of authentication errors.
+     * Increases the count of authentication errors and lets the auth script refresh credentials if too many are received.
      */
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
+        CatsDSLParser.notifyAuthError();
     }
 
     /**
      * Increases the count of I/O errors.
      */
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of skipped tests.
      */
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
+    }
+
+    /**
+     * Gets the count of skipped tests.
+     *
+     * @return The count of skipped tests.
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the count of authentication errors.
+     *
+     * @return The count of authentication errors.
+     */
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    /**
+     * Gets the count of I/O errors.
+     *
+     * @return The count of I/O errors.
+     */
+    public int getIoErrors() {
+        return this.ioErrors.get();
     }
 
     /**
@@ -74,7 +101,7 @@ public class ExecutionStatisticsListener {
      *
      * @param path The path for which errors are increased.
      */
-    public void increaseErrors(String path) {
+    public synchronized void increaseErrors(String path) {
         this.errors.merge(path, 1, Integer::sum);
     }
 
@@ -83,7 +110,7 @@ public class ExecutionStatisticsListener {
      *
      * @param path The path for which warnings are increased.
      */
-    public void increaseWarns(String path) {
+    public synchronized void increaseWarns(String path) {
         this.warns.merge(path, 1, Integer::sum);
     }
 
@@ -92,7 +119,7 @@ public class ExecutionStatisticsListener {
      *
      * @param path The path for which successful executions are increased.
      */
-    public void increaseSuccess(String path) {
+    public synchronized void increaseSuccess(String path) {
         this.success.merge(path, 1, Integer::sum);
     }
 
@@ -101,7 +128,7 @@ public class ExecutionStatisticsListener {
      *
      * @return The total count of errors.
      */
-    public int getErrors() {
+    public synchronized int getErrors() {
         return this.errors.values().stream().reduce(0, Integer::sum);
     }
 
@@ -110,7 +137,7 @@ public class ExecutionStatisticsListener {
      *
      * @return The total count of warnings.
      */
-    public int getWarns() {
+    public synchronized int getWarns() {
         return this.warns.values().stream().reduce(0, Integer::sum);
     }
 
@@ -119,7 +146,7 @@ public class ExecutionStatisticsListener {
      *
      * @return The total count of successful executions.
      */
-    public int getSuccess() {
+    public synchronized int getSuccess() {
         return this.success.values().stream().reduce(0, Integer::sum);
     }
 
@@ -138,7 +165,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many authentication errors, {@code false} otherwise.
      */
     public boolean areManyAuthErrors() {
-        return authErrors > this.getAll() / 2;
+        return this.getAuthErrors() > this.getAll() / 2;
     }
 
     /**
@@ -147,7 +174,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many I/O errors, {@code false} otherwise.
      */
     public boolean areManyIoErrors() {
-        return ioErrors > this.getAll() / 2;
+        return this.getIoErrors() > this.getAll() / 2;
     }
 
     /**
@@ -156,7 +183,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which to generate the result string.
      * @return A formatted string representation of the execution results.
      */
-    public String resultAsStringPerPath(String path) {
+    public synchronized String resultAsStringPerPath(String path) {
         String errorsString = Ansi.ansi().fg(Ansi.Color.RED).a("E " + errors.getOrDefault(path, 0)).reset().toString();
         String warnsString = Ansi.ansi().fg(Ansi.Color.YELLOW).a("W " + warns.getOrDefault(path, 0)).reset().toString();
         String successString = Ansi.ansi().fg(Ansi.Color.GREEN).a("S " + success.getOrDefault(path, 0)).reset().toString();
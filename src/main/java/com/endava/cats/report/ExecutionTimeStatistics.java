@@ -0,0 +1,112 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.TimeExecution;
+import com.endava.cats.model.TimeExecutionDetails;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates response times per HTTP method and path.
+ * <p>
+ * Each endpoint keeps the number of executions, the total time, the best and worst cases, and a fixed-size histogram
+ * used to compute percentiles, so memory doesn't grow with the number of executed tests. Individual executions are
+ * kept only when {@code --printDetailedExecutionStatistics} is supplied, as they need to be printed one by one.
+ * </p>
+ */
+public class ExecutionTimeStatistics {
+    private final Map<String, EndpointStatistics> statisticsPerEndpoint = new ConcurrentHashMap<>();
+    private final boolean keepExecutions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keepExecutions whether to keep each individual execution, in addition to the aggregated statistics
+     */
+    public ExecutionTimeStatistics(boolean keepExecutions) {
+        this.keepExecutions = keepExecutions;
+    }
+
+    /**
+     * Records the response time of the given test.
+     *
+     * @param testId           the id of the test
+     * @param path             the path of the test
+     * @param httpMethod       the HTTP method of the test
+     * @param responseTimeInMs the response time in milliseconds
+     */
+    public void record(String testId, String path, String httpMethod, long responseTimeInMs) {
+        statisticsPerEndpoint.computeIfAbsent(httpMethod + " " + path, key -> new EndpointStatistics(keepExecutions))
+                .record(testId, responseTimeInMs);
+    }
+
+    /**
+     * Returns the details for each endpoint having more than one execution.
+     *
+     * @return a list of execution details, one for each endpoint
+     */
+    public List<TimeExecutionDetails> getExecutionDetails() {
+        return statisticsPerEndpoint.entrySet().stream()
+                .filter(entry -> entry.getValue().count() > 1)
+                .map(entry -> entry.getValue().toExecutionDetails(entry.getKey()))
+                .toList();
+    }
+
+    private static final class EndpointStatistics {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final List<TimeExecution> executions;
+        private long count;
+        private long totalTimeInMs;
+        private TimeExecution bestCase;
+        private TimeExecution worstCase;
+
+        EndpointStatistics(boolean keepExecutions) {
+            this.executions = keepExecutions ? new ArrayList<>() : null;
+        }
+
+        synchronized void record(String testId, long responseTimeInMs) {
+            TimeExecution execution = TimeExecution.builder().testId(testId).executionInMs(responseTimeInMs).build();
+            count++;
+            totalTimeInMs += responseTimeInMs;
+            histogram.record(responseTimeInMs);
+            if (bestCase == null || responseTimeInMs < bestCase.getExecutionInMs()) {
+                bestCase = execution;
+            }
+            if (worstCase == null || responseTimeInMs >= worstCase.getExecutionInMs()) {
+                worstCase = execution;
+            }
+            if (executions != null) {
+                executions.add(execution);
+            }
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized TimeExecutionDetails toExecutionDetails(String key) {
+            List<TimeExecution> sortedExecutions = executions == null ? List.of() :
+                    executions.stream().sorted(Comparator.comparingLong(TimeExecution::getExecutionInMs)).toList();
+
+            return TimeExecutionDetails.builder()
+                    .path(key)
+                    .average((double) totalTimeInMs / count)
+                    .bestCase(bestCase)
+                    .worstCase(worstCase)
+                    .percentile50(this.percentile(50))
+                    .percentile90(this.percentile(90))
+                    .percentile99(this.percentile(99))
+                    .percentile999(this.percentile(99.9))
+                    .executions(sortedExecutions)
+                    .build();
+        }
+
+        private long percentile(double percentile) {
+            long value = histogram.valueAtPercentile(percentile);
+            return Math.min(Math.max(value, bestCase.getExecutionInMs()), worstCase.getExecutionInMs());
+        }
+    }
+}
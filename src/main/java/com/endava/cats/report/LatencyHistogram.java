@@ -0,0 +1,67 @@
+package com.endava.cats.report;
+
+/**
+ * Fixed-size histogram of response times with logarithmic buckets.
+ * <p>
+ * Values below 32 are recorded exactly. Larger values are split in 32 sub-buckets for each power of 2,
+ * which keeps the relative error of the computed percentiles below ~3% while using a constant amount of memory,
+ * no matter how many values are recorded.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT];
+    private long totalCount;
+
+    /**
+     * Records the given value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    void record(long value) {
+        counts[bucketIndex(Math.max(0, value))]++;
+        totalCount++;
+    }
+
+    /**
+     * Returns the value at the given percentile, as the upper bound of the bucket holding it.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the given percentile or 0 if nothing was recorded
+     */
+    long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= targetCount) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + (long) SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.endava.cats.report;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pre-computed view of a documented response schema, used when matching responses against it.
+ * <p>
+ * It keeps the lower-cased schema along with every token it contains, in lower case: the names of all the fields it documents
+ * and all the values it holds. Field lookups are hash lookups rather than substring searches over the entire schema.
+ * Schemas which are not valid JSONs have no tokens, so they are still searched as text.
+ * </p>
+ *
+ * @param lowerCaseSchema the response schema in lower case
+ * @param fieldNames      the names of all fields documented by the response schema, in lower case
+ * @param tokens          the field names and values of the response schema, in lower case
+ * @param array           whether the response schema is a JSON array
+ * @param json            whether the response schema is a valid JSON
+ */
+record ResponseSchemaIndex(String lowerCaseSchema, Set<String> fieldNames, Set<String> tokens, boolean array, boolean json) {
+    static final ResponseSchemaIndex EMPTY = new ResponseSchemaIndex("", Set.of(), Set.of(), false, false);
+
+    /**
+     * Compiles the given response schema.
+     *
+     * @param responseSchema the response schema as documented in the contract
+     * @return a pre-computed view of the response schema
+     */
+    static ResponseSchemaIndex compile(String responseSchema) {
+        if (responseSchema == null || responseSchema.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> fieldNames = new HashSet<>();
+        Set<String> tokens = new HashSet<>();
+        boolean array = false;
+        boolean json = false;
+        try {
+            JsonElement schemaElement = JsonParser.parseString(responseSchema);
+            array = schemaElement.isJsonArray();
+            collectTokens(schemaElement, fieldNames, tokens);
+            json = true;
+        } catch (RuntimeException e) {
+            /* we fall back to substring matching for schemas that are not valid JSONs */
+        }
+
+        return new ResponseSchemaIndex(responseSchema.toLowerCase(Locale.ROOT), Set.copyOf(fieldNames), Set.copyOf(tokens), array, json);
+    }
+
+    private static void collectTokens(JsonElement element, Set<String> fieldNames, Set<String> tokens) {
+        if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                fieldNames.add(entry.getKey().toLowerCase(Locale.ROOT));
+                tokens.add(entry.getKey().toLowerCase(Locale.ROOT));
+                collectTokens(entry.getValue(), fieldNames, tokens);
+            }
+        } else if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(item -> collectTokens(item, fieldNames, tokens));
+        } else if (element.isJsonPrimitive()) {
+            tokens.add(element.getAsString().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Checks if the response schema is not documented.
+     *
+     * @return true if there is no response schema, false otherwise
+     */
+    boolean isEmpty() {
+        return lowerCaseSchema.isEmpty();
+    }
+
+    /**
+     * Checks if the given name is mentioned in the response schema, either as a field name or as a value.
+     * Schemas which are not valid JSONs are searched as text.
+     *
+     * @param name the name of the field
+     * @return true if the name is mentioned in the response schema, false otherwise
+     */
+    boolean mentions(String name) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        if (json) {
+            return tokens.contains(lowerCaseName);
+        }
+        return lowerCaseSchema.contains(lowerCaseName);
+    }
+}
@@ -5,11 +5,9 @@ import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.util.KeyValueSerializer;
 import com.endava.cats.util.LongTypeSerializer;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.CatsTestReport;
 import com.endava.cats.util.KeyValuePair;
-import com.endava.cats.model.TimeExecution;
 import com.endava.cats.model.TimeExecutionDetails;
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.endava.cats.util.ConsoleUtils;
@@ -40,13 +38,11 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -137,60 +133,24 @@ public abstract class TestCaseExporter {
      * Writes performance statistics for the executed test cases, including execution time details.
      * The method checks if printing execution statistics is enabled in the reporting arguments before generating and printing the report.
      *
-     * @param executionSummaries a map containing the summaries of executed test cases
+     * @param executionTimeStatistics the response times aggregated per endpoint
      */
-    public void writePerformanceReport(List<CatsTestCaseExecutionSummary> executionSummaries) {
+    public void writePerformanceReport(ExecutionTimeStatistics executionTimeStatistics) {
         if (reportingArguments.isPrintExecutionStatistics()) {
-            Map<String, List<CatsTestCaseExecutionSummary>> executionDetails = extractExecutionDetails(executionSummaries);
-
             ConsoleUtils.renderHeader(" Execution time details ");
             ConsoleUtils.emptyLine();
-            executionDetails.forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            executionTimeStatistics.getExecutionDetails().forEach(this::writeExecutionTimesForPathAndHttpMethod);
         } else {
             ConsoleUtils.emptyLine();
             logger.info("Skip printing time execution statistics. You can use --printExecutionStatistics to enable this feature!");
         }
     }
 
-    private Map<String, List<CatsTestCaseExecutionSummary>> extractExecutionDetails(List<CatsTestCaseExecutionSummary> summaries) {
-        return summaries
-                .stream()
-                .collect(Collectors.groupingBy(testCase -> testCase.httpMethod() + " " + testCase.path()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().size() > 1)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCaseExecutionSummary> value) {
-        double average = value.stream().mapToLong(CatsTestCaseExecutionSummary::responseTimeInMs).average().orElse(0);
-        List<CatsTestCaseExecutionSummary> sortedRuns = value.stream()
-                .sorted(Comparator.comparingLong(CatsTestCaseExecutionSummary::responseTimeInMs))
-                .toList();
-
-        CatsTestCaseExecutionSummary bestCaseTestCase = sortedRuns.get(0);
-        CatsTestCaseExecutionSummary worstCaseTestCase = sortedRuns.get(sortedRuns.size() - 1);
-        List<TimeExecution> executions = sortedRuns.stream()
-                .map(tetCase -> TimeExecution.builder()
-                        .testId(tetCase.testId())
-                        .executionInMs(tetCase.responseTimeInMs())
-                        .build())
-                .toList();
-
-        TimeExecutionDetails timeExecutionDetails = TimeExecutionDetails.builder().average(average)
-                .path(key).bestCase(TimeExecution.builder()
-                        .testId(bestCaseTestCase.testId())
-                        .executionInMs(bestCaseTestCase.responseTimeInMs())
-                        .build())
-                .worstCase(TimeExecution.builder()
-                        .testId(worstCaseTestCase.testId())
-                        .executionInMs(worstCaseTestCase.responseTimeInMs())
-                        .build())
-                .executions(executions).build();
-
-
+    private void writeExecutionTimesForPathAndHttpMethod(TimeExecutionDetails timeExecutionDetails) {
         logger.info("Details for path {} ", ansi().fg(Ansi.Color.GREEN).a(timeExecutionDetails.getPath()).reset());
         logger.timer(ansi().fgYellow().a("Average response time: {}ms").reset().toString(), ansi().bold().a(NumberFormat.getInstance().format(timeExecutionDetails.getAverage())));
+        logger.timer(ansi().fgYellow().a("Response time percentiles: p50 {}ms, p90 {}ms, p99 {}ms, p999 {}ms").reset().toString(),
+                timeExecutionDetails.getPercentile50(), timeExecutionDetails.getPercentile90(), timeExecutionDetails.getPercentile99(), timeExecutionDetails.getPercentile999());
         logger.timer(ansi().fgRed().a("Worst case response time: {}").reset().toString(), ansi().bold().a(timeExecutionDetails.getWorstCase().executionTimeString()));
         logger.timer(ansi().fgGreen().a("Best case response time: {}").reset().toString(), ansi().bold().a(timeExecutionDetails.getBestCase().executionTimeString()));
 
@@ -232,7 +192,7 @@ public abstract class TestCaseExporter {
      * It creates a CatsTestReport and extracts information such as warnings, success, errors, and total tests.
      * The gathered information is stored in a context map.
      *
-     * @param summaries                   the pre-created summary for each test case
+     * @param summaries                   the pre-created summary for each test case, sorted by test id
      * @param executionStatisticsListener the listener providing statistics on CATS execution
      */
     public void writeSummary(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
@@ -248,12 +208,14 @@ public abstract class TestCaseExporter {
         context.put("EXECUTION", Duration.ofSeconds(report.getExecutionTime()).toString().toLowerCase(Locale.ROOT).substring(2));
         context.put("VERSION", report.getCatsVersion());
         context.put("JS", this.isJavascript());
-        Writer writer = this.getSummaryTemplate().execute(new StringWriter(), context);
-
-        try {
-            writer.flush();
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), this.getSummaryReportTitle()), writer.toString(), StandardCharsets.UTF_8);
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), REPORT_JS), maskingSerializer.toJson(report), StandardCharsets.UTF_8);
+        context.put("TEST_CASE_LINK_PREFIX", this.getTestCaseLinkPrefix());
+        context.put("TEST_CASE_LINK_SUFFIX", this.getTestCaseLinkSuffix());
+
+        /*summaries might be streamed from disk, so they are written directly to files rather than rendered in memory*/
+        try (Writer summaryWriter = Files.newBufferedWriter(Paths.get(reportingPath.toFile().getAbsolutePath(), this.getSummaryReportTitle()), StandardCharsets.UTF_8);
+             Writer reportWriter = Files.newBufferedWriter(Paths.get(reportingPath.toFile().getAbsolutePath(), REPORT_JS), StandardCharsets.UTF_8)) {
+            this.getSummaryTemplate().execute(summaryWriter, context);
+            maskingSerializer.toJson(report, reportWriter);
         } catch (IOException e) {
             logger.error("There was an error writing the report summary: {}. Please check if CATS has proper right to write in the report location: {}",
                     e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -262,9 +224,7 @@ public abstract class TestCaseExporter {
     }
 
     private CatsTestReport createTestReport(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
-        List<CatsTestCaseSummary> sortedSummaries = summaries.stream().sorted().toList();
-
-        return CatsTestReport.builder().testCases(sortedSummaries).errors(executionStatisticsListener.getErrors())
+        return CatsTestReport.builder().testCases(summaries).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
                 .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
@@ -326,7 +286,7 @@ public abstract class TestCaseExporter {
     private void writeJsonTestCase(CatsTestCase testCase) {
         String testFileName = testCase.getTestId().replace(" ", "").concat(JSON);
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), maskingSerializer.toJson(testCase), StandardCharsets.UTF_8);
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), this.toJson(testCase), StandardCharsets.UTF_8);
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -335,18 +295,9 @@ public abstract class TestCaseExporter {
     }
 
     private void writeHtmlTestCase(CatsTestCase testCase) {
-        StringWriter stringWriter = new StringWriter();
-        Map<String, Object> context = new HashMap<>();
-        testCase.setJs(this.isJavascript());
-        testCase.setMaskingSerializer(maskingSerializer);
-        context.put("TEST_CASE", testCase);
-        context.put("TIMESTAMP", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
-        context.put("VERSION", this.version);
-        context.put("JS", this.isJavascript());
-        Writer writer = TEST_CASE_MUSTACHE.execute(stringWriter, context);
         String testFileName = testCase.getTestId().replace(" ", "").concat(HTML);
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), writer.toString(), StandardCharsets.UTF_8);
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), this.renderHtmlTestCase(testCase), StandardCharsets.UTF_8);
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -357,6 +308,61 @@ public abstract class TestCaseExporter {
         }
     }
 
+    /**
+     * Renders the HTML page of the given test case.
+     *
+     * @param testCase the test case
+     * @return the HTML page of the test case
+     */
+    String renderHtmlTestCase(CatsTestCase testCase) {
+        StringWriter stringWriter = new StringWriter();
+        Map<String, Object> context = new HashMap<>();
+        testCase.setJs(this.isJavascript());
+        testCase.setMaskingSerializer(maskingSerializer);
+        context.put("TEST_CASE", testCase);
+        context.put("TIMESTAMP", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        context.put("VERSION", this.version);
+        context.put("JS", this.isJavascript());
+        return TEST_CASE_MUSTACHE.execute(stringWriter, context).toString();
+    }
+
+    /**
+     * Serializes the given test case as JSON, masking the configured headers.
+     *
+     * @param testCase the test case
+     * @return the JSON representation of the test case
+     */
+    String toJson(CatsTestCase testCase) {
+        return maskingSerializer.toJson(testCase);
+    }
+
+    /**
+     * Returns the folder where the report is written.
+     *
+     * @return the reporting path
+     */
+    Path getReportingPath() {
+        return reportingPath;
+    }
+
+    /**
+     * Returns the text placed before the test key when linking test cases from the summary report.
+     *
+     * @return the prefix of the test case links
+     */
+    protected String getTestCaseLinkPrefix() {
+        return "";
+    }
+
+    /**
+     * Returns the text placed after the test key when linking test cases from the summary report.
+     *
+     * @return the suffix of the test case links
+     */
+    protected String getTestCaseLinkSuffix() {
+        return HTML;
+    }
+
     /**
      * Indicates whether the report format involves JavaScript functionality.
      *
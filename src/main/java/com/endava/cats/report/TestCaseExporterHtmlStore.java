@@ -0,0 +1,121 @@
+package com.endava.cats.report;
+
+import com.endava.cats.annotations.DryRun;
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.github.mustachejava.Mustache;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A concrete implementation of TestCaseExporter for exporting test case results in HTML format with JavaScript,
+ * keeping all test cases in a single {@link TestCaseStore} instead of one HTML and one JSON file per test case.
+ * Test cases are opened from the summary report through a viewer page which loads them on demand from the store.
+ *
+ * @see TestCaseExporter
+ */
+@Singleton
+@Named("htmlStore")
+public class TestCaseExporterHtmlStore extends TestCaseExporter {
+    static final String TEST_CASE_VIEWER = "test-case.html";
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseExporterHtmlStore.class);
+    private TestCaseStore testCaseStore;
+
+    /**
+     * Constructs a new instance of TestCaseExporterHtmlStore with the specified reporting arguments.
+     *
+     * @param reportingArguments the reporting arguments for configuring the TestCaseExporterHtmlStore
+     */
+    public TestCaseExporterHtmlStore(ReportingArguments reportingArguments) {
+        super(reportingArguments);
+    }
+
+    @Override
+    public synchronized void initPath(String folder) throws IOException {
+        this.closeStore();
+        super.initPath(folder);
+        testCaseStore = new TestCaseStore(this.getReportingPath());
+    }
+
+    /**
+     * We mark it as DryRun in order to avoid writing test cases when in dryRun mode.
+     *
+     * @param testCase the current test case
+     */
+    @Override
+    @DryRun
+    public void writeTestCase(CatsTestCase testCase) {
+        try {
+            this.getTestCaseStore().append(testCase.getTestId().replace(" ", ""), this.renderHtmlTestCase(testCase), this.toJson(testCase));
+        } catch (IOException | IllegalStateException e) {
+            logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    testCase.getTestId(), e.getMessage(), this.getReportingPath());
+            logger.debug("Stacktrace", e);
+        }
+    }
+
+    @Override
+    public void writeSummary(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
+        this.closeStore();
+        super.writeSummary(summaries, executionStatisticsListener);
+    }
+
+    private synchronized TestCaseStore getTestCaseStore() {
+        if (testCaseStore == null) {
+            throw new IllegalStateException("test case store is not open");
+        }
+        return testCaseStore;
+    }
+
+    private synchronized void closeStore() {
+        if (testCaseStore != null) {
+            try {
+                testCaseStore.close();
+            } catch (IOException e) {
+                logger.debug("Unable to close the test case store: {}", e.getMessage());
+            }
+            testCaseStore = null;
+        }
+    }
+
+    @Override
+    public String[] getSpecificHelperFiles() {
+        return new String[]{"styles.css", "script.js", TEST_CASE_VIEWER};
+    }
+
+    @Override
+    public ReportingArguments.ReportFormat reportFormat() {
+        return ReportingArguments.ReportFormat.HTML_STORE;
+    }
+
+    @Override
+    protected boolean isJavascript() {
+        return true;
+    }
+
+    @Override
+    protected String getTestCaseLinkPrefix() {
+        return TEST_CASE_VIEWER + "#";
+    }
+
+    @Override
+    protected String getTestCaseLinkSuffix() {
+        return "";
+    }
+
+    @Override
+    public Mustache getSummaryTemplate() {
+        return SUMMARY_MUSTACHE;
+    }
+
+    @Override
+    public String getSummaryReportTitle() {
+        return REPORT_HTML;
+    }
+}
@@ -13,7 +13,6 @@ import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsResultFactory;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.ConsoleUtils;
@@ -21,7 +20,6 @@ import com.google.common.collect.Iterators;
 import com.google.common.net.MediaType;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -34,13 +32,11 @@ import org.slf4j.event.Level;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -48,6 +44,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -72,7 +70,7 @@ public class TestCaseListener {
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501", "413", "431");
     private static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
     private static final List<String> CONTENT_TYPE_DONT_MATCH_SCHEMA = List.of("application/csv", "application/pdf");
-    final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    final Map<String, CatsTestCase> testCaseMap = Collections.synchronizedMap(new HashMap<>());
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
@@ -80,9 +78,9 @@ public class TestCaseListener {
     private final CatsGlobalContext globalContext;
     private final IgnoreArguments ignoreArguments;
     private final ReportingArguments reportingArguments;
-    final List<CatsTestCaseSummary> testCaseSummaryDetails = new ArrayList<>();
-    final List<CatsTestCaseExecutionSummary> testCaseExecutionDetails = new ArrayList<>();
-    private final Set<String> recordedErrors = new HashSet<>();
+    final List<CatsTestCaseSummary> testCaseSummaryDetails = Collections.synchronizedList(new ArrayList<>());
+    private ExecutionTimeStatistics executionTimeStatistics;
+    private final Set<String> recordedErrors = ConcurrentHashMap.newKeySet();
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -91,8 +89,12 @@ public class TestCaseListener {
     @ConfigProperty(name = "app.timestamp", defaultValue = "1-1-1")
     String appBuildTime;
 
-    private final Map<String, Double> runPerPathListener = new HashMap<>();
-    private final Map<String, Integer> runTotals = new HashMap<>();
+    private final Map<String, Double> runPerPathListener = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Integer> runTotals = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, ResponseSchemaIndex> responseSchemaIndexes = new ConcurrentHashMap<>();
+    private String lastRenderedPath;
+    private AsyncTestCaseWriter asyncTestCaseWriter;
+    private TestCaseSummaryFile testCaseSummaryFile;
 
     /**
      * Constructs a TestCaseListener with the provided dependencies and configuration.
@@ -162,6 +164,45 @@ public class TestCaseListener {
      */
     public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
         this.startTestCase();
+        this.runWithinCurrentTestCase(externalLogger, fuzzer, s);
+        this.endTestCase();
+    }
+
+    /**
+     * Starts a new test case and runs the provided runnable within its context, without ending the test case.
+     * The test case is detached from the current thread afterward, so that other test cases can be started
+     * while this one waits for its results. The test case must be ended using {@link #completeTest(String, PrettyLogger, Fuzzer, Runnable)}.
+     *
+     * @param externalLogger the external logger for logging test-related information
+     * @param fuzzer         the fuzzer associated with the test
+     * @param s              the runnable representing the first part of the test logic
+     * @return the id of the started test case
+     */
+    public String startTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
+        this.startTestCase();
+        this.runWithinCurrentTestCase(externalLogger, fuzzer, s);
+        String testId = MDC.get(ID);
+        this.detachTestCase();
+
+        return testId;
+    }
+
+    /**
+     * Resumes a test case previously started using {@link #startTest(PrettyLogger, Fuzzer, Runnable)},
+     * runs the provided runnable within its context and ends the test case.
+     *
+     * @param testId         the id of the test case to resume
+     * @param externalLogger the external logger for logging test-related information
+     * @param fuzzer         the fuzzer associated with the test
+     * @param s              the runnable representing the remaining part of the test logic
+     */
+    public void completeTest(String testId, PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
+        this.attachTestCase(testId);
+        this.runWithinCurrentTestCase(externalLogger, fuzzer, s);
+        this.endTestCase();
+    }
+
+    private void runWithinCurrentTestCase(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s) {
         try {
             s.run();
         } catch (Exception e) {
@@ -171,7 +212,6 @@ public class TestCaseListener {
             externalLogger.debug("Detailed stacktrace", e);
             this.checkForIOErrors(e);
         }
-        this.endTestCase();
     }
 
     /**
@@ -185,20 +225,35 @@ public class TestCaseListener {
 
     /**
      * Returns the current test case number being executed.
+     * When test cases run concurrently, this is the number of the test case bound to the current thread.
      *
      * @return the test case number being executed
      */
     public int getCurrentTestCaseNumber() {
+        String currentTestId = MDC.get(ID);
+        if (currentTestId != null) {
+            return Integer.parseInt(currentTestId);
+        }
         return TEST.get();
     }
 
     private void startTestCase() {
         String testId = String.valueOf(TEST.incrementAndGet());
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test " + testId);
+        testCaseMap.put(testId, testCase);
+
+        this.attachTestCase(testId);
+    }
+
+    private void attachTestCase(String testId) {
         MDC.put(ID, testId);
         MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 7, Ansi.Color.MAGENTA));
+    }
 
-        testCaseMap.put(testId, new CatsTestCase());
-        testCaseMap.get(testId).setTestId("Test " + testId);
+    private void detachTestCase() {
+        MDC.remove(ID);
+        MDC.put(ID_ANSI, this.getKeyDefault());
     }
 
     /**
@@ -299,46 +354,67 @@ public class TestCaseListener {
         CatsTestCase currentTestCase = currentTestCase();
         currentTestCase.setFuzzer(MDC.get(FUZZER_KEY));
         if (currentTestCase.isNotSkipped()) {
-            testCaseExporter.writeTestCase(currentTestCase);
+            this.writeTestCase(currentTestCase);
             keepSummary(currentTestCase);
         }
         keepExecutionDetails(currentTestCase);
         testCaseMap.remove(MDC.get(ID));
-        MDC.remove(ID);
-        MDC.put(ID_ANSI, this.getKeyDefault());
+        this.detachTestCase();
         logger.info(SEPARATOR);
     }
 
+    private void writeTestCase(CatsTestCase testCase) {
+        if (asyncTestCaseWriter != null) {
+            asyncTestCaseWriter.submit(testCase);
+        } else {
+            testCaseExporter.writeTestCase(testCase);
+        }
+    }
+
     private void keepSummary(CatsTestCase testCase) {
-        testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase));
+        CatsTestCaseSummary summary = CatsTestCaseSummary.fromCatsTestCase(testCase);
+        if (testCaseSummaryFile != null) {
+            testCaseSummaryFile.add(summary);
+        } else {
+            testCaseSummaryDetails.add(summary);
+        }
     }
 
     private void keepExecutionDetails(CatsTestCase testCase) {
         if (testCase.notIgnoredForExecutionStatistics() && reportingArguments.isPrintExecutionStatistics()) {
-            testCaseExecutionDetails.add(new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
-                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
+            this.getExecutionTimeStatistics().record(testCase.getTestId(), testCase.getPath(),
+                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs());
+        }
+    }
+
+    private synchronized ExecutionTimeStatistics getExecutionTimeStatistics() {
+        if (executionTimeStatistics == null) {
+            executionTimeStatistics = new ExecutionTimeStatistics(reportingArguments.isPrintDetailedExecutionStatistics());
         }
+        return executionTimeStatistics;
     }
 
     /**
      * Notifies summary observers about the progress of a specific path and HTTP method during the testing session.
      * If configured to display summaries in the console, this method renders the progress dynamically.
+     * When paths are fuzzed in parallel, progress for a path is rendered on a new row if another path was rendered in between.
      *
      * @param path      the path for which the progress is being reported
      * @param method    the HTTP method associated with the path
      * @param chunkSize the chunk size representing the progress
      */
-    public void notifySummaryObservers(String path, String method, double chunkSize) {
+    public synchronized void notifySummaryObservers(String path, String method, double chunkSize) {
         if (reportingArguments.isSummaryInConsole()) {
             double percentage = runPerPathListener.getOrDefault(path, 0d) + chunkSize;
             String printPath = path + "  " + (percentage >= 100 ? executionStatisticsListener.resultAsStringPerPath(path) : method);
 
-            if (runPerPathListener.get(path) != null) {
+            if (runPerPathListener.get(path) != null && (lastRenderedPath == null || lastRenderedPath.equals(path))) {
                 ConsoleUtils.renderSameRow(printPath, percentage);
             } else {
                 ConsoleUtils.renderNewRow(printPath, percentage);
             }
             runPerPathListener.merge(path, chunkSize, Double::sum);
+            lastRenderedPath = path;
         }
     }
 
@@ -347,7 +423,7 @@ public class TestCaseListener {
      *
      * @param data the FuzzingData context
      */
-    public void startUnknownProgress(FuzzingData data) {
+    public synchronized void startUnknownProgress(FuzzingData data) {
         if (!reportingArguments.isSummaryInConsole()) {
             return;
         }
@@ -360,7 +436,7 @@ public class TestCaseListener {
      *
      * @param data the FuzzingData context
      */
-    public void updateUnknownProgress(FuzzingData data) {
+    public synchronized void updateUnknownProgress(FuzzingData data) {
         if (!reportingArguments.isSummaryInConsole()) {
             return;
         }
@@ -372,7 +448,8 @@ public class TestCaseListener {
     /**
      * Starts a new testing session, initializing necessary configurations and logging session information.
      * This method sets default values for identifiers and logs session details such as application name,
-     * version, build time, and platform.
+     * version, build time, and platform. When {@code --reportWriterQueueSize} is supplied, it also starts the background test case writer.
+     * When {@code --storeSummariesOnDisk} is supplied, it creates the file holding test case summaries.
      */
     public void startSession() {
         MDC.put(ID_ANSI, this.getKeyDefault());
@@ -387,6 +464,21 @@ public class TestCaseListener {
                 ansi().fg(Ansi.Color.GREEN).a(appVersion),
                 ansi().fg(Ansi.Color.GREEN).a(appBuildTime),
                 ansi().fg(Ansi.Color.GREEN).a(osDetails).reset());
+
+        if (reportingArguments.getReportWriterQueueSize() > 0 && asyncTestCaseWriter == null) {
+            asyncTestCaseWriter = new AsyncTestCaseWriter(testCaseExporter, reportingArguments.getReportWriterQueueSize());
+        }
+        if (reportingArguments.isStoreSummariesOnDisk() && testCaseSummaryFile == null) {
+            this.createTestCaseSummaryFile();
+        }
+    }
+
+    private void createTestCaseSummaryFile() {
+        try {
+            testCaseSummaryFile = new TestCaseSummaryFile();
+        } catch (IOException e) {
+            logger.warning("Unable to create the summaries file, summaries will be kept in memory: {}", e.getMessage());
+        }
     }
 
     /**
@@ -427,15 +519,44 @@ public class TestCaseListener {
 
     /**
      * Ends the test session by performing necessary actions such as writing summaries, helper files, and performance reports.
+     * Test cases still queued for writing by the background writer are written first.
      * Additionally, prints execution details using the associated logger.
      */
     public void endSession() {
+        this.flushTestCases();
         reportingArguments.enableAdditionalLoggingIfSummary();
-        testCaseExporter.writeSummary(testCaseSummaryDetails, executionStatisticsListener);
+        testCaseExporter.writeSummary(this.sortedSummaries(), executionStatisticsListener);
+        this.closeTestCaseSummaryFile();
         testCaseExporter.writeHelperFiles();
-        testCaseExporter.writePerformanceReport(testCaseExecutionDetails);
+        testCaseExporter.writePerformanceReport(this.getExecutionTimeStatistics());
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
         writeRecordedErrorsIfPresent();
+        logger.debug("Response bodies parsed as JSON: {}, total parsing time: {}ms", CatsResponse.getJsonBodyParseCount(), CatsResponse.getJsonBodyParseTimeInMs());
+    }
+
+    private List<CatsTestCaseSummary> sortedSummaries() {
+        if (testCaseSummaryFile != null) {
+            return testCaseSummaryFile.sortedSummaries();
+        }
+        return testCaseSummaryDetails.stream().sorted().toList();
+    }
+
+    private void closeTestCaseSummaryFile() {
+        if (testCaseSummaryFile != null) {
+            try {
+                testCaseSummaryFile.close();
+            } catch (IOException e) {
+                logger.debug("Unable to delete the summaries file: {}", e.getMessage());
+            }
+            testCaseSummaryFile = null;
+        }
+    }
+
+    private void flushTestCases() {
+        if (asyncTestCaseWriter != null) {
+            asyncTestCaseWriter.close();
+            asyncTestCaseWriter = null;
+        }
     }
 
     /**
@@ -758,12 +879,13 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses()
+                    .computeIfAbsent(data.getPath(), key -> new ConcurrentLinkedDeque<>())
+                    .add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
-            globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
+            Optional.ofNullable(globalContext.getPostSuccessfulResponses().get(data.getPath().substring(0, data.getPath().lastIndexOf("/"))))
+                    .ifPresent(Deque::poll);
         }
     }
 
@@ -891,7 +1013,7 @@ public class TestCaseListener {
     }
 
     private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, List<String> responses) {
-        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, response.getJsonBody()))
+        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(this.getResponseSchemaIndex(responseSchema), response.getJsonBody()))
                 && (isFuzzedFieldPresentInResponse(response) || !isErrorResponse(response));
     }
 
@@ -925,7 +1047,14 @@ public class TestCaseListener {
         return isEmptyString || isEmptyArray || isEmptyJson;
     }
 
-    private boolean matchesElement(String responseSchema, JsonElement element) {
+    private ResponseSchemaIndex getResponseSchemaIndex(String responseSchema) {
+        if (responseSchema == null || responseSchema.isEmpty()) {
+            return ResponseSchemaIndex.EMPTY;
+        }
+        return responseSchemaIndexes.computeIfAbsent(responseSchema, ResponseSchemaIndex::compile);
+    }
+
+    private boolean matchesElement(ResponseSchemaIndex responseSchema, JsonElement element) {
         if (element.isJsonArray()) {
             return matchesArrayElement(responseSchema, element);
         }
@@ -933,10 +1062,10 @@ public class TestCaseListener {
         return matchesSingleElement(responseSchema, element, "ROOT");
     }
 
-    private boolean matchesArrayElement(String responseSchema, JsonElement element) {
+    private boolean matchesArrayElement(ResponseSchemaIndex responseSchema, JsonElement element) {
         JsonArray jsonArray = ((JsonArray) element);
 
-        if (jsonArray.isEmpty() && JsonParser.parseString(responseSchema).isJsonArray()) {
+        if (jsonArray.isEmpty() && responseSchema.array()) {
             return true;
         } else if (jsonArray.isEmpty()) {
             return false;
@@ -946,15 +1075,15 @@ public class TestCaseListener {
         return matchesSingleElement(responseSchema, firstElement, "ROOT");
     }
 
-    private boolean matchesSingleElement(String responseSchema, JsonElement element, String name) {
+    private boolean matchesSingleElement(ResponseSchemaIndex responseSchema, JsonElement element, String name) {
         if (element.isJsonObject() && globalContext.getAdditionalProperties().contains(name)) {
             return true;
         }
-        if (doesNotHaveAResponseSchema(responseSchema)) {
+        if (responseSchema.isEmpty()) {
             return true;
         }
         if (!element.isJsonObject()) {
-            return responseSchema.toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT));
+            return responseSchema.mentions(name);
         }
 
         boolean matches = true;
@@ -965,10 +1094,6 @@ public class TestCaseListener {
         return matches;
     }
 
-    private static boolean doesNotHaveAResponseSchema(String responseSchema) {
-        return responseSchema == null || responseSchema.isEmpty();
-    }
-
     private CatsTestCase currentTestCase() {
         return testCaseMap.get(MDC.get(ID));
     }
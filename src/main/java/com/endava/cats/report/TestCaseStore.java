@@ -0,0 +1,151 @@
+package com.endava.cats.report;
+
+import com.google.gson.Gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps all test cases of a run in a single append-only file, instead of one HTML and one JSON file per test case.
+ * <p>
+ * Each test case is stored as two records: the rendered HTML page and the JSON test case. A record is a 4-byte big-endian length
+ * followed by the gzip compressed content. An index file holds one JSON line per test case with the offset and length of
+ * both records, so that a single test case can be read without scanning the store. Both files are only appended to,
+ * so they are usable at any point during the run.
+ * </p>
+ */
+public final class TestCaseStore implements Closeable {
+    /**
+     * The name of the file holding the test case records.
+     */
+    public static final String STORE_FILE = "test-cases.store";
+    /**
+     * The name of the file holding the index of the test case records.
+     */
+    public static final String INDEX_FILE = "test-cases-index.jsonl";
+    private static final Gson COMPACT_GSON = new Gson();
+    private static final int LENGTH_PREFIX_BYTES = Integer.BYTES;
+
+    private final FileChannel storeChannel;
+    private final FileChannel indexChannel;
+
+    /**
+     * Creates a new store inside the given folder. Existing store files are overwritten.
+     *
+     * @param folder the report folder
+     * @throws IOException if the store files cannot be created
+     */
+    TestCaseStore(Path folder) throws IOException {
+        this.storeChannel = FileChannel.open(folder.resolve(STORE_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.indexChannel = FileChannel.open(folder.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends the given test case to the store.
+     *
+     * @param testKey the test id without spaces, used to look up the test case
+     * @param html    the rendered HTML page of the test case
+     * @param json    the test case serialized as JSON
+     * @throws IOException if writing to the store fails
+     */
+    synchronized void append(String testKey, String html, String json) throws IOException {
+        long htmlOffset = this.writeRecord(html);
+        long jsonOffset = this.writeRecord(json);
+        IndexEntry entry = new IndexEntry(testKey, htmlOffset, (int) (jsonOffset - htmlOffset - LENGTH_PREFIX_BYTES),
+                jsonOffset, (int) (storeChannel.position() - jsonOffset));
+
+        writeFully(indexChannel, ByteBuffer.wrap((COMPACT_GSON.toJson(entry) + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long writeRecord(String content) throws IOException {
+        byte[] compressed = gzip(content);
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_PREFIX_BYTES + compressed.length);
+        buffer.putInt(compressed.length).put(compressed).flip();
+        long offset = storeChannel.position() + LENGTH_PREFIX_BYTES;
+        writeFully(storeChannel, buffer);
+
+        return offset;
+    }
+
+    /**
+     * Flushes the store and the index to disk and closes them.
+     *
+     * @throws IOException if flushing or closing the files fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try (storeChannel; indexChannel) {
+            storeChannel.force(false);
+            indexChannel.force(false);
+        }
+    }
+
+    /**
+     * Reads the JSON of the given test case from the store inside the given report folder.
+     *
+     * @param folder  the report folder
+     * @param testKey the test id without spaces
+     * @return the test case JSON or empty if the folder doesn't have a store or the store doesn't contain the test case
+     * @throws IOException if reading the store fails
+     */
+    public static Optional<String> readTestCaseJson(Path folder, String testKey) throws IOException {
+        Path indexFile = folder.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return Optional.empty();
+        }
+        Optional<IndexEntry> entry;
+        try (var lines = Files.lines(indexFile, StandardCharsets.UTF_8)) {
+            entry = lines.filter(line -> !line.isBlank())
+                    .map(line -> COMPACT_GSON.fromJson(line, IndexEntry.class))
+                    .filter(indexEntry -> indexEntry.id().equals(testKey))
+                    .reduce((first, second) -> second);
+        }
+        if (entry.isEmpty()) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(folder.resolve(STORE_FILE), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(entry.get().jsonLength());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.get().jsonOffset() + buffer.position()) < 0) {
+                    throw new IOException("Test case store is truncated: " + folder.resolve(STORE_FILE));
+                }
+            }
+            return Optional.of(gunzip(buffer.array()));
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    record IndexEntry(String id, long htmlOffset, int htmlLength, long jsonOffset, int jsonLength) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Append-only file holding test case summaries, used instead of keeping all summaries in memory.
+ * <p>
+ * Each summary is written as a JSON line. Only the test id and the location of each summary within the file are kept in memory.
+ * Summaries are read back one by one when the summary report is written. The file is deleted on close.
+ * </p>
+ */
+class TestCaseSummaryFile implements Closeable {
+    private static final Gson COMPACT_GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+    private final Path file;
+    private final FileChannel channel;
+    private final List<Entry> entries = new ArrayList<>();
+    private long position;
+
+    /**
+     * Creates a new temporary file holding summaries.
+     *
+     * @throws IOException if the file cannot be created
+     */
+    TestCaseSummaryFile() throws IOException {
+        this.file = Files.createTempFile("cats-summaries", ".jsonl");
+        this.file.toFile().deleteOnExit();
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Appends the given summary to the file.
+     *
+     * @param summary the summary to append
+     */
+    synchronized void add(CatsTestCaseSummary summary) {
+        byte[] bytes = (COMPACT_GSON.toJson(summary) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entries.add(new Entry(summary.getId(), position, bytes.length));
+        position += bytes.length;
+    }
+
+    /**
+     * Returns the number of summaries written so far.
+     *
+     * @return the number of summaries
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a read-only view over all the summaries, sorted by test id. Summaries are read from disk on access.
+     *
+     * @return a list of summaries sorted by test id
+     */
+    synchronized List<CatsTestCaseSummary> sortedSummaries() {
+        List<Entry> sortedEntries = entries.stream()
+                .sorted(Comparator.comparing(Entry::id, CatsTestCaseSummary::compareIds))
+                .toList();
+
+        return new AbstractList<>() {
+            @Override
+            public CatsTestCaseSummary get(int index) {
+                return read(sortedEntries.get(index));
+            }
+
+            @Override
+            public int size() {
+                return sortedEntries.size();
+            }
+        };
+    }
+
+    private CatsTestCaseSummary read(Entry entry) {
+        ByteBuffer buffer = ByteBuffer.allocate(entry.length());
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.offset() + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of summaries file " + file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return COMPACT_GSON.fromJson(new String(buffer.array(), StandardCharsets.UTF_8), CatsTestCaseSummary.class);
+    }
+
+    /**
+     * Closes and deletes the underlying file.
+     *
+     * @throws IOException if the file cannot be closed or deleted
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    record Entry(String id, long offset, int length) {
+    }
+}
@@ -4,9 +4,9 @@ import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.PayloadTemplate;
 import com.endava.cats.util.WordUtils;
 import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
 import io.swagger.v3.oas.models.media.Schema;
 import lombok.Getter;
 import net.minidev.json.JSONArray;
@@ -332,25 +332,42 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      */
     public static FuzzingResult replaceField(String payload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
         if (StringUtils.isNotBlank(payload)) {
-            String jsonPropToGetValue = jsonPropertyForReplacement;
-            if (JsonUtils.isJsonArray(payload)) {
-                jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
-                jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
-            }
-            DocumentContext jsonDocument = JsonPath.parse(payload);
-            Object oldValue = jsonDocument.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
-            if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
-                oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
-                jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
-            }
-            Object valueToSet = fuzzingStrategyToApply.process(oldValue);
-            if (mergeFuzzing) {
-                valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
-            }
-            CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
-
-            return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+            return replaceField(PayloadTemplate.of(payload), jsonPropertyForReplacement, fuzzingStrategyToApply, mergeFuzzing);
         }
         return FuzzingResult.empty();
     }
+
+    /**
+     * Replaces a specific field in the given payload template using the provided fuzzing strategy.
+     * The template is not modified, so it can be reused for subsequent replacements.
+     *
+     * @param payloadTemplate            the original payload containing the field to be replaced, already parsed
+     * @param jsonPropertyForReplacement the JSON property representing the field to be replaced
+     * @param fuzzingStrategyToApply     the fuzzing strategy to apply for replacement
+     * @param mergeFuzzing               weather to merge the fuzzed value with the valid value
+     * @return a FuzzingResult containing the modified payload and information about the replacement
+     */
+    public static FuzzingResult replaceField(PayloadTemplate payloadTemplate, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
+        if (payloadTemplate.isBlank()) {
+            return FuzzingResult.empty();
+        }
+        String jsonPropToGetValue = jsonPropertyForReplacement;
+        if (payloadTemplate.isArray()) {
+            jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
+            jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
+        }
+        Object oldValue = payloadTemplate.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
+        if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
+            oldValue = payloadTemplate.read("$." + jsonPropToGetValue + "[0]");
+            jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
+        }
+        Object valueToSet = fuzzingStrategyToApply.process(oldValue);
+        if (mergeFuzzing) {
+            valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
+        }
+        DocumentContext jsonDocument = payloadTemplate.documentForUpdate(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement));
+        CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
+
+        return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+    }
 }
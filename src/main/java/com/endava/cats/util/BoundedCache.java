@@ -0,0 +1,96 @@
+package com.endava.cats.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache holding at most {@code maxSize} entries. When full, the oldest entry is evicted.
+ * <p>
+ * Lookups do not take any lock, so the cache can be shared by all the threads fuzzing in parallel.
+ * Values are computed outside the map, so the same value might be computed more than once under contention.
+ * This is fine as the cache is meant for values which are pure functions of their keys, like compiled expressions.
+ * Values which fail to compute are not cached.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BoundedCache<K, V> {
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new cache holding at most {@code maxSize} entries.
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value associated with the given key, computing and caching it if not present.
+     *
+     * @param key             the key
+     * @param mappingFunction the function used to compute the value when not cached
+     * @return the cached or newly computed value
+     */
+    public V get(K key, Function<K, V> mappingFunction) {
+        V value = entries.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = mappingFunction.apply(key);
+        if (value != null && entries.putIfAbsent(key, value) == null) {
+            insertionOrder.add(key);
+            this.evictIfFull();
+        }
+        return value;
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maxSize) {
+            K eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * Returns the number of lookups which found the value already cached.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which had to compute the value.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries currently cached.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return entries.size();
+    }
+}
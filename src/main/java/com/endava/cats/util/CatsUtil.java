@@ -121,13 +121,32 @@ public abstract class CatsUtil {
         return new FuzzingResult(jsonDocument.jsonString(), with);
     }
 
+    /**
+     * Same as {@link #justReplaceField(String, String, Object)}, but using an already parsed payload.
+     * The template is not modified, so it can be reused for subsequent replacements.
+     *
+     * @param payloadTemplate            the JSON payload, already parsed
+     * @param jsonPropertyForReplacement the JSON property path to replace
+     * @param with                       the value to replace with
+     * @return a result with the payload replaced
+     */
+    public static FuzzingResult justReplaceField(PayloadTemplate payloadTemplate, String jsonPropertyForReplacement, Object with) {
+        if (payloadTemplate.isArray()) {
+            jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
+        }
+        DocumentContext jsonDocument = payloadTemplate.documentForUpdate(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement));
+        replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, with);
+
+        return new FuzzingResult(jsonDocument.jsonString(), with);
+    }
+
     public static void replaceOldValueWithNewOne(String jsonPropertyForReplacement, DocumentContext jsonDocument, Object valueToSet) {
         if (JsonUtils.isValidJson(elementToString(valueToSet))) {
             if (areBothPropertyToReplaceAndValueToReplaceArrays(jsonPropertyForReplacement, valueToSet)) {
                 jsonPropertyForReplacement = removeArrayTermination(jsonPropertyForReplacement);
             }
             try {
-                jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), JsonUtils.JSON_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
+                jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), JsonUtils.JSON_PERMISSIVE_PARSER.get().parse(String.valueOf(valueToSet)));
             } catch (ParseException e) {
                 throw new CatsException(e);
             }
@@ -0,0 +1,57 @@
+package com.endava.cats.util;
+
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Helper class for creating executors used when running fuzzers and HTTP calls concurrently.
+ */
+public abstract class ConcurrencyUtils {
+    private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(ConcurrencyUtils.class);
+    private static final String VIRTUAL_THREAD_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private ConcurrencyUtils() {
+        //ntd
+    }
+
+    /**
+     * Checks if the current JVM supports virtual threads i.e. it's Java 21 or above.
+     *
+     * @return true if virtual threads are supported, false otherwise
+     */
+    public static boolean areVirtualThreadsSupported() {
+        return getVirtualThreadExecutorFactory() != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task when running on Java 21 or above.
+     * When virtual threads are not supported, it falls back to a fixed pool of platform threads.
+     *
+     * @param fallbackPoolSize the number of platform threads used when virtual threads are not supported
+     * @return a new executor service
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(int fallbackPoolSize) {
+        Method virtualThreadExecutorFactory = getVirtualThreadExecutorFactory();
+        if (virtualThreadExecutorFactory != null) {
+            try {
+                return (ExecutorService) virtualThreadExecutorFactory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.debug("Unable to create virtual threads executor: {}", e.getMessage());
+            }
+        }
+        LOGGER.debug("Virtual threads not supported by the current JVM. Falling back to {} platform threads", fallbackPoolSize);
+        return Executors.newFixedThreadPool(Math.max(1, fallbackPoolSize));
+    }
+
+    private static Method getVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_METHOD);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
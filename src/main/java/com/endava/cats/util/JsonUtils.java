@@ -59,14 +59,14 @@ public abstract class JsonUtils {
     public static final String ALL_ELEMENTS_ROOT_ARRAY = "$[*]#";
 
     /**
-     * A permissive JSON parser.
+     * A permissive JSON parser. Parsers are kept per thread as they are not thread safe.
      */
-    public static final JSONParser JSON_PERMISSIVE_PARSER = new JSONParser(JSONParser.MODE_PERMISSIVE);
+    public static final ThreadLocal<JSONParser> JSON_PERMISSIVE_PARSER = ThreadLocal.withInitial(() -> new JSONParser(JSONParser.MODE_PERMISSIVE));
 
     /**
-     * A more strict JSON parser adhering to the RFC4627.
+     * A more strict JSON parser adhering to the RFC4627. Parsers are kept per thread as they are not thread safe.
      */
-    public static final JSONParser JSON_STRICT_PARSER = new JSONParser(JSONParser.MODE_RFC4627);
+    public static final ThreadLocal<JSONParser> JSON_STRICT_PARSER = ThreadLocal.withInitial(() -> new JSONParser(JSONParser.MODE_RFC4627));
 
     private static final Pattern JSON_SQUARE_BR_KEYS = Pattern.compile("\\w+(\\[(?>[a-zA-Z0-9]*[a-zA-Z][a-zA-Z0-9]*)])+\\w*");
 
@@ -89,6 +89,9 @@ public abstract class JsonUtils {
             .jsonProvider(new JacksonJsonNodeJsonProvider())
             .build();
     private static final ParseContext PARSE_CONTEXT = new ParseContextImpl(JACKSON_JSON_NODE_CONFIGURATION);
+    private static final int SANITIZED_PATH_CACHE_SIZE = 4096;
+    /*the set of paths inside a contract is small and fixed; compiled JsonPaths are already cached by JsonPath's own CacheProvider*/
+    private static final BoundedCache<String, String> SANITIZED_PATH_CACHE = new BoundedCache<>(SANITIZED_PATH_CACHE_SIZE);
 
     private JsonUtils() {
         //ntd
@@ -125,7 +128,7 @@ public abstract class JsonUtils {
      * @return a path replacing "#"  with "."
      */
     public static String sanitizeToJsonPath(String input) {
-        return escapeFullPath(escapeSpaces(input.replace("#", ".")));
+        return SANITIZED_PATH_CACHE.get(input, key -> escapeFullPath(escapeSpaces(key.replace("#", "."))));
     }
 
     /**
@@ -159,7 +162,7 @@ public abstract class JsonUtils {
      */
     public static boolean isValidJson(String text) {
         try {
-            JSON_STRICT_PARSER.parse(text);
+            JSON_STRICT_PARSER.get().parse(text);
         } catch (Exception e) {
             return false;
         }
@@ -175,7 +178,7 @@ public abstract class JsonUtils {
             property = FIRST_ELEMENT_FROM_ROOT_ARRAY + property;
         }
 
-        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(JsonUtils.sanitizeToJsonPath(property));
+        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(sanitizeToJsonPath(property));
         return testFunction.test(jsonNode);
     }
 
@@ -272,7 +275,7 @@ public abstract class JsonUtils {
             if (!payload.contains("_OF")) {
                 return payload;
             }
-            String interimPayload = JsonPath.parse(payload).set(escapeFullPath(nodeKey), JSON_PERMISSIVE_PARSER.parse(nodeValue)).jsonString();
+            String interimPayload = JsonPath.parse(payload).set(escapeFullPath(nodeKey), JSON_PERMISSIVE_PARSER.get().parse(nodeValue)).jsonString();
             DocumentContext finalPayload = removeElements(toEliminate, interimPayload, nodeKey.substring(0, nodeKey.lastIndexOf(".")));
             return finalPayload.jsonString();
         } catch (PathNotFoundException e) {
@@ -391,7 +394,7 @@ public abstract class JsonUtils {
     public static Object getVariableFromJson(String jsonPayload, String value) {
         try {
             DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
-            return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            return jsonDoc.read(sanitizeToJsonPath(value));
         } catch (JsonPathException | IllegalArgumentException e) {
             LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
             return NOT_SET;
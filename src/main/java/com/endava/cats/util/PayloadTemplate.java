@@ -0,0 +1,216 @@
+package com.endava.cats.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.Option;
+import lombok.Getter;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON payload parsed once and used as a template for creating fuzzed payloads.
+ * <p>
+ * The template document is never modified. Each new document shares all the untouched branches with the template,
+ * while the containers along the paths that will be updated are copied. The concrete locations matched by
+ * each JsonPath are resolved once and cached.
+ * </p>
+ */
+public final class PayloadTemplate {
+    private static final Configuration PATH_LIST_CONFIGURATION = Configuration.builder().options(Option.AS_PATH_LIST).build();
+    private static final Pattern PATH_TOKEN = Pattern.compile("\\['((?:[^']|'(?!]))*)']|\\[(\\d+)]");
+
+    @Getter
+    private final String payload;
+    private final Object document;
+    private final Map<String, Optional<List<List<Object>>>> resolvedPaths = new ConcurrentHashMap<>();
+
+    private PayloadTemplate(String payload, Object document) {
+        this.payload = payload;
+        this.document = document;
+    }
+
+    /**
+     * Parses the given payload into a template.
+     *
+     * @param payload the JSON payload
+     * @return a new template
+     */
+    public static PayloadTemplate of(String payload) {
+        Object document = payload == null || payload.isBlank() ? null : JsonPath.parse(payload).json();
+        return new PayloadTemplate(payload, document);
+    }
+
+    /**
+     * Checks if the template payload is blank.
+     *
+     * @return true if the payload is null or blank, false otherwise
+     */
+    public boolean isBlank() {
+        return document == null;
+    }
+
+    /**
+     * Checks if the template payload is a JSON array.
+     *
+     * @return true if the root of the payload is an array, false otherwise
+     */
+    public boolean isArray() {
+        return document instanceof JSONArray;
+    }
+
+    /**
+     * Reads the value at the given JsonPath from the template. Returned values must not be modified.
+     * The path is compiled through JsonPath's own cache, shared with the rest of the String based JsonPath calls.
+     *
+     * @param jsonPath the JsonPath to read
+     * @return the value at the given path
+     */
+    public Object read(String jsonPath) {
+        return JsonPath.parse(document).read(jsonPath);
+    }
+
+    /**
+     * Creates a new document which can be safely updated at the given JsonPath, without affecting the template.
+     *
+     * @param jsonPath the JsonPath that will be updated
+     * @return a new document context
+     */
+    public DocumentContext documentForUpdate(String jsonPath) {
+        Optional<List<List<Object>>> locations = resolvedPaths.computeIfAbsent(jsonPath, this::resolveLocations);
+        if (locations.isEmpty()) {
+            return JsonPath.parse(deepCopy(document));
+        }
+
+        Set<Object> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+        Object root = shallowCopy(document);
+        copies.add(root);
+        for (List<Object> location : locations.get()) {
+            Object current = root;
+            for (int i = 0; i < location.size() - 1 && isContainer(current); i++) {
+                Object child = getChild(current, location.get(i));
+                if (isContainer(child) && !copies.contains(child)) {
+                    child = shallowCopy(child);
+                    copies.add(child);
+                    setChild(current, location.get(i), child);
+                }
+                current = child;
+            }
+        }
+
+        return JsonPath.parse(root);
+    }
+
+    private Optional<List<List<Object>>> resolveLocations(String jsonPath) {
+        try {
+            List<String> concretePaths = JsonPath.using(PATH_LIST_CONFIGURATION).parse(document).read(jsonPath);
+            List<List<Object>> locations = new ArrayList<>();
+            for (String concretePath : concretePaths) {
+                List<Object> tokens = tokenize(concretePath);
+                if (tokens.isEmpty() || !this.isReachable(tokens)) {
+                    return Optional.empty();
+                }
+                locations.add(tokens);
+            }
+            return Optional.of(locations);
+        } catch (JsonPathException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isReachable(List<Object> tokens) {
+        Object current = document;
+        for (Object token : tokens) {
+            boolean present = (current instanceof Map<?, ?> map && map.containsKey(token))
+                    || (current instanceof List<?> list && token instanceof Integer index && index < list.size());
+            if (!present) {
+                return false;
+            }
+            current = getChild(current, token);
+        }
+        return true;
+    }
+
+    /**
+     * Splits a normalized path like {@code $['a'][0]['b']} into its tokens. Returns an empty list if the path cannot be unambiguously split.
+     */
+    private static List<Object> tokenize(String concretePath) {
+        List<Object> tokens = new ArrayList<>();
+        StringBuilder rebuilt = new StringBuilder("$");
+        Matcher matcher = PATH_TOKEN.matcher(concretePath);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                tokens.add(matcher.group(1));
+                rebuilt.append("['").append(matcher.group(1)).append("']");
+            } else {
+                tokens.add(Integer.parseInt(matcher.group(2)));
+                rebuilt.append("[").append(matcher.group(2)).append("]");
+            }
+        }
+        return rebuilt.toString().equals(concretePath) ? tokens : List.of();
+    }
+
+    private static boolean isContainer(Object value) {
+        return value instanceof Map || value instanceof List;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object getChild(Object container, Object token) {
+        if (container instanceof Map && token instanceof String key) {
+            return ((Map<String, Object>) container).get(key);
+        }
+        if (container instanceof List && token instanceof Integer index && index < ((List<Object>) container).size()) {
+            return ((List<Object>) container).get(index);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setChild(Object container, Object token, Object child) {
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put((String) token, child);
+        } else {
+            ((List<Object>) container).set((Integer) token, child);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object shallowCopy(Object value) {
+        if (value instanceof JSONObject jsonObject) {
+            return new JSONObject(jsonObject);
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<String, Object>) value);
+        }
+        if (value instanceof List) {
+            JSONArray copy = new JSONArray(((List<Object>) value).size());
+            copy.addAll((List<Object>) value);
+            return copy;
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object deepCopy(Object value) {
+        Object copy = shallowCopy(value);
+        if (copy instanceof Map) {
+            ((Map<String, Object>) copy).replaceAll((key, child) -> deepCopy(child));
+        } else if (copy instanceof List) {
+            ((List<Object>) copy).replaceAll(PayloadTemplate::deepCopy);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,71 @@
+package com.endava.cats.util;
+
+import com.github.curiousoddman.rgxgen.RgxGen;
+import org.cornutum.regexpgen.RegExpGen;
+import org.cornutum.regexpgen.js.Provider;
+
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide caches of compiled regular expressions and regex based generators, keyed by the regex.
+ * <p>
+ * Contracts usually reuse the same patterns across many fields and each value is generated and checked against its pattern several times.
+ * Compiling the pattern and building the generators once avoids doing the same work for every generated value.
+ * The cached instances are thread-safe: compiled patterns and generators keep no state between calls.
+ * Invalid patterns are not cached, so they fail with the same exceptions as when compiled directly.
+ * </p>
+ */
+public final class RegexCache {
+    private static final int CACHE_SIZE = 2048;
+    private static final org.cornutum.regexpgen.Provider REGEXPGEN_PROVIDER = Provider.forEcmaScript();
+    private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(CACHE_SIZE);
+    private static final BoundedCache<String, RgxGen> RGXGEN_GENERATORS = new BoundedCache<>(CACHE_SIZE);
+    private static final BoundedCache<String, RegExpGen> REGEXPGEN_GENERATORS = new BoundedCache<>(CACHE_SIZE);
+
+    private RegexCache() {
+        //ntd
+    }
+
+    /**
+     * Returns the compiled version of the given regex.
+     *
+     * @param regex the regex
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    public static Pattern pattern(String regex) {
+        return PATTERNS.get(regex, Pattern::compile);
+    }
+
+    /**
+     * Checks if the entire given value matches the regex. This is a cached equivalent of {@link String#matches(String)}.
+     *
+     * @param value the value to check
+     * @param regex the regex
+     * @return true if the value matches the regex, false otherwise
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    public static boolean matches(CharSequence value, String regex) {
+        return pattern(regex).matcher(value).matches();
+    }
+
+    /**
+     * Returns a {@link RgxGen} generator for the given regex.
+     *
+     * @param regex the regex
+     * @return a generator producing values matching the regex
+     */
+    public static RgxGen rgxGen(String regex) {
+        return RGXGEN_GENERATORS.get(regex, RgxGen::new);
+    }
+
+    /**
+     * Returns a {@link RegExpGen} generator producing values which entirely match the given ECMAScript regex.
+     *
+     * @param regex the regex
+     * @return a generator producing values matching the regex
+     */
+    public static RegExpGen regExpGen(String regex) {
+        return REGEXPGEN_GENERATORS.get(regex, REGEXPGEN_PROVIDER::matchingExact);
+    }
+}
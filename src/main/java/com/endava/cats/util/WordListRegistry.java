@@ -0,0 +1,269 @@
+package com.endava.cats.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared registry of word lists, like the {@code stringsFile} used by the SecurityFuzzer, the {@code --words} dictionary
+ * or the values files used by custom mutators.
+ * <p>
+ * Each file is loaded once and its line offsets are indexed. Fuzzers get read-only {@code List<String>} views over the file
+ * which decode lines only when accessed, so dictionaries are loaded once and don't need to be kept in the heap as strings.
+ * Files are reloaded when their size or last modified time changes.
+ * Line terminators follow {@link Files#readAllLines(Path)}, while malformed UTF-8 sequences are replaced instead of failing the read.
+ * </p>
+ * <p>
+ * Files up to {@value #HEAP_COPY_MAX_SIZE} bytes are copied onto the heap. Bigger files are kept out of the heap: only their line offsets
+ * are, and each accessed line is read from the file. The file is not kept open or mapped, so it can still be replaced or deleted, but
+ * views over it then read the new content, and reading a line which is no longer in the file throws an {@link UncheckedIOException}.
+ * </p>
+ */
+public final class WordListRegistry {
+    static final int HEAP_COPY_MAX_SIZE = 4 * 1024 * 1024;
+    private static final Map<Path, WordList> WORD_LISTS = new ConcurrentHashMap<>();
+
+    private WordListRegistry() {
+        //ntd
+    }
+
+    /**
+     * Returns all the lines of the given file, similar to {@link Files#readAllLines(Path)}.
+     *
+     * @param file the file
+     * @return a read-only, lazily decoded view of the lines of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> lines(Path file) throws IOException {
+        return wordList(file).lines();
+    }
+
+    /**
+     * Returns the words of the given file, skipping blank lines and lines starting with the given comment prefix.
+     *
+     * @param file          the file
+     * @param commentPrefix lines starting with this prefix are considered comments
+     * @return a read-only, lazily decoded view of the words of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> words(Path file, String commentPrefix) throws IOException {
+        try {
+            return wordList(file).words(commentPrefix);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Removes all the loaded word lists. Views already handed out remain usable.
+     */
+    public static void clear() {
+        WORD_LISTS.clear();
+    }
+
+    private static WordList wordList(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        WordList existing = WORD_LISTS.get(key);
+        if (existing != null && existing.isSameVersion(attributes)) {
+            return existing;
+        }
+        WordList loaded = WordList.load(key, attributes);
+        WORD_LISTS.put(key, loaded);
+        return loaded;
+    }
+
+    private static final class WordList {
+        private final Path file;
+        private final byte[] content;
+        private final int[] lineStarts;
+        private final int[] lineEnds;
+        private final long size;
+        private final long lastModified;
+        private final List<String> lines;
+        private final Map<String, List<String>> wordsPerCommentPrefix = new ConcurrentHashMap<>();
+
+        /**
+         * @param content the file content when copied onto the heap, or null when lines are read from the file
+         */
+        private WordList(Path file, byte[] content, int[][] lineOffsets, BasicFileAttributes attributes) {
+            this.file = file;
+            this.content = content;
+            this.lineStarts = lineOffsets[0];
+            this.lineEnds = lineOffsets[1];
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.lines = new LinesView(null);
+        }
+
+        static WordList load(Path file, BasicFileAttributes attributes) throws IOException {
+            if (attributes.size() > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be used as a word list: " + file);
+            }
+            byte[] content = attributes.size() <= HEAP_COPY_MAX_SIZE ? Files.readAllBytes(file) : null;
+            try (InputStream input = content != null ? new ByteArrayInputStream(content) : Files.newInputStream(file)) {
+                return new WordList(file, content, indexLines(input), attributes);
+            }
+        }
+
+        /**
+         * @return the start and end offsets of each line, without line terminators
+         */
+        private static int[][] indexLines(InputStream input) throws IOException {
+            int capacity = 16;
+            int[] starts = new int[capacity];
+            int[] ends = new int[capacity];
+            int count = 0;
+            int start = 0;
+            int position = 0;
+            boolean afterCarriageReturn = false;
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++, position++) {
+                    byte current = buffer[i];
+                    if (afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                        if (current == '\n') {
+                            start = position + 1;
+                            continue;
+                        }
+                    }
+                    if (current != '\n' && current != '\r') {
+                        continue;
+                    }
+                    if (count == capacity) {
+                        capacity = capacity * 2;
+                        starts = Arrays.copyOf(starts, capacity);
+                        ends = Arrays.copyOf(ends, capacity);
+                    }
+                    starts[count] = start;
+                    ends[count] = position;
+                    count++;
+                    afterCarriageReturn = current == '\r';
+                    start = position + 1;
+                }
+            }
+            if (start < position) {
+                starts = Arrays.copyOf(starts, count + 1);
+                ends = Arrays.copyOf(ends, count + 1);
+                starts[count] = start;
+                ends[count] = position;
+                count++;
+            }
+            return new int[][]{Arrays.copyOf(starts, count), Arrays.copyOf(ends, count)};
+        }
+
+        boolean isSameVersion(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified == attributes.lastModifiedTime().toMillis();
+        }
+
+        List<String> lines() {
+            return lines;
+        }
+
+        List<String> words(String commentPrefix) {
+            return wordsPerCommentPrefix.computeIfAbsent(commentPrefix, this::indexWords);
+        }
+
+        private List<String> indexWords(String commentPrefix) {
+            byte[] prefix = commentPrefix.getBytes(StandardCharsets.UTF_8);
+            int[] words = new int[lineStarts.length];
+            int count = 0;
+            try (InputStream input = content != null ? new ByteArrayInputStream(content) : Files.newInputStream(file)) {
+                int position = 0;
+                for (int line = 0; line < lineStarts.length; line++) {
+                    input.skipNBytes(lineStarts[line] - (long) position);
+                    byte[] bytes = input.readNBytes(lineEnds[line] - lineStarts[line]);
+                    if (bytes.length < lineEnds[line] - lineStarts[line]) {
+                        throw new EOFException();
+                    }
+                    position = lineEnds[line];
+                    if (!isBlank(bytes) && !startsWith(bytes, prefix)) {
+                        words[count++] = line;
+                    }
+                }
+            } catch (IOException e) {
+                throw this.readFailure(e);
+            }
+            return new LinesView(Arrays.copyOf(words, count));
+        }
+
+        private static boolean isBlank(byte[] bytes) {
+            for (byte current : bytes) {
+                if (current < 0) {
+                    return new String(bytes, StandardCharsets.UTF_8).isBlank();
+                }
+                if (!Character.isWhitespace(current)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean startsWith(byte[] bytes, byte[] prefix) {
+            return prefix.length > 0 && bytes.length >= prefix.length && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+        }
+
+        private String decode(int line) {
+            int length = lineEnds[line] - lineStarts[line];
+            if (content != null) {
+                return new String(content, lineStarts[line], length, StandardCharsets.UTF_8);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, lineStarts[line] + (long) bytes.position()) == -1) {
+                        throw new EOFException();
+                    }
+                }
+            } catch (IOException e) {
+                throw this.readFailure(e);
+            }
+            return new String(bytes.array(), StandardCharsets.UTF_8);
+        }
+
+        private UncheckedIOException readFailure(IOException e) {
+            return new UncheckedIOException("Unable to read word list file, it might have been truncated or removed while in use: " + file, e);
+        }
+
+        /**
+         * A view over all the lines of the file when {@code selectedLines} is null, or only over the given lines otherwise.
+         */
+        private final class LinesView extends AbstractList<String> implements RandomAccess {
+            private final int[] selectedLines;
+
+            LinesView(int[] selectedLines) {
+                this.selectedLines = selectedLines;
+            }
+
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= this.size()) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+                }
+                return decode(selectedLines == null ? index : selectedLines[index]);
+            }
+
+            @Override
+            public int size() {
+                return selectedLines == null ? lineStarts.length : selectedLines.length;
+            }
+        }
+    }
+}
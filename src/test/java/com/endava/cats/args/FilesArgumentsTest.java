@@ -157,6 +157,22 @@ class FilesArgumentsTest {
         org.assertj.core.api.Assertions.assertThat(refDataForPets).containsOnlyKeys("argRefData", "anotherArgRefData", "allField", "anotherAllField", "field", "name");
     }
 
+    @Test
+    void shouldReuseMergedRefDataUntilReloaded() throws Exception {
+        FilesArguments filesArguments = new FilesArguments();
+        filesArguments.setRefDataFile(new File("src/test/resources/refFields_with_all.yml"));
+        filesArguments.loadRefData();
+        Map<String, Object> refDataForPets = filesArguments.getRefData("/pets");
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRefData("/pets")).isSameAs(refDataForPets);
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> refDataForPets.put("newField", "value")).isInstanceOf(UnsupportedOperationException.class);
+
+        filesArguments.setRefDataArguments(Map.of("argRefData", "argValue"));
+        filesArguments.loadRefData();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getRefData("/pets")).isNotSameAs(refDataForPets).containsKey("argRefData");
+    }
+
     @Test
     void shouldLoadQueryParams() throws Exception {
         FilesArguments filesArguments = new FilesArguments();
@@ -202,4 +218,44 @@ class FilesArgumentsTest {
         String urlParamValue = filesArguments.getUrlParam("param3");
         org.assertj.core.api.Assertions.assertThat(urlParamValue).isEqualTo("value3");
     }
+
+    @Test
+    void shouldLoadPathAndAllRateLimits() throws Exception {
+        FilesArguments filesArguments = new FilesArguments();
+        ReflectionTestUtils.setField(filesArguments, "rateLimitsFile", new File("src/test/resources/rateLimits.yml"));
+        filesArguments.loadRateLimits();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxRequestsPerMinute("/search")).isEqualTo(1200);
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxInFlight("/search")).isEqualTo(10);
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxRequestsPerMinute("/orders")).isEqualTo(600);
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxInFlight("/orders")).isEqualTo(2);
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxRequestsPerMinute("/other")).isEqualTo(600);
+    }
+
+    @Test
+    void shouldNotLimitPathsWhenNoRateLimitsFile() throws Exception {
+        FilesArguments filesArguments = new FilesArguments();
+        filesArguments.loadRateLimits();
+
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxRequestsPerMinute("/search")).isZero();
+        org.assertj.core.api.Assertions.assertThat(filesArguments.getMaxInFlight("/search")).isZero();
+    }
+
+    @Test
+    void shouldThrowExceptionOnUnknownRateLimit() {
+        FilesArguments filesArguments = new FilesArguments();
+        ReflectionTestUtils.setField(filesArguments, "rateLimitsFile", new File("src/test/resources/rateLimits_invalid.yml"));
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(filesArguments::loadRateLimits).isInstanceOf(CatsException.class)
+                .hasMessageContaining("Unknown rate limit maxRequestsPerSecond for path /search");
+    }
+
+    @Test
+    void shouldThrowExceptionOnNonPositiveRateLimit() {
+        FilesArguments filesArguments = new FilesArguments();
+        ReflectionTestUtils.setField(filesArguments, "rateLimitsFile", new File("src/test/resources/rateLimits_negative.yml"));
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(filesArguments::loadRateLimits).isInstanceOf(CatsException.class)
+                .hasMessageContaining("Rate limit maxInFlight for path /search must be a positive number, got 0");
+    }
 }
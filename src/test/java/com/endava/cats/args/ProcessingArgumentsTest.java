@@ -53,4 +53,17 @@ class ProcessingArgumentsTest {
         ProcessingArguments processingArguments = new ProcessingArguments();
         Assertions.assertThat(processingArguments.getDefaultContentType()).isEqualTo("application/json");
     }
+
+    @Test
+    void shouldNotRunInParallelByDefault() {
+        ProcessingArguments processingArguments = new ProcessingArguments();
+        Assertions.assertThat(processingArguments.isParallelExecution()).isFalse();
+    }
+
+    @Test
+    void shouldRunInParallelWhenParallelismBiggerThanOne() {
+        ProcessingArguments processingArguments = new ProcessingArguments();
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 3);
+        Assertions.assertThat(processingArguments.isParallelExecution()).isTrue();
+    }
 }
@@ -3,12 +3,14 @@ package com.endava.cats.command;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.CheckArguments;
 import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.fuzzer.contract.PathTagsLinterFuzzer;
 import com.endava.cats.fuzzer.http.CheckDeletedResourcesNotAvailableFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.VersionChecker;
@@ -23,6 +25,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 @QuarkusTest
@@ -38,6 +43,8 @@ class CatsCommandTest {
     ReportingArguments reportingArguments;
     @Inject
     ApiArguments apiArguments;
+    @Inject
+    ProcessingArguments processingArguments;
     @InjectSpy
     FuzzingDataFactory fuzzingDataFactory;
     @InjectSpy
@@ -145,6 +152,86 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldRunFuzzersInParallelWhenParallelismSupplied() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 4);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        spyMain.run();
+        Mockito.verify(spyMain).startFuzzing(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
+        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(10)).beforeFuzz(PathTagsLinterFuzzer.class);
+
+        ReflectionTestUtils.setField(processingArguments, "parallelism", 1);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldBuildFuzzingDataInParallelWhenFuzzingDataParallelismSupplied() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "fuzzingDataParallelism", 4);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        spyMain.run();
+        Mockito.verify(fuzzingDataFactory, Mockito.times(5)).fromPathItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
+        Mockito.verify(testCaseListener, Mockito.times(20)).afterFuzz(Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(10)).beforeFuzz(PathTagsLinterFuzzer.class);
+
+        ReflectionTestUtils.setField(processingArguments, "fuzzingDataParallelism", 0);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldBuildSameFuzzingDataWhenBuiltSequentiallyOrInParallel() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/petstore.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(Mockito.mock(CheckDeletedResourcesNotAvailableFuzzer.class)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet-types", "/pet-types-rec", "/pets", "/pets-batch", "/pets/{id}"));
+
+        Map<String, List<String>> sequentialData = this.runAndCollectFuzzingData();
+        ReflectionTestUtils.setField(processingArguments, "fuzzingDataParallelism", 4);
+        Map<String, List<String>> parallelData = this.runAndCollectFuzzingData();
+
+        Assertions.assertThat(sequentialData).hasSize(5).isEqualTo(parallelData);
+
+        ReflectionTestUtils.setField(processingArguments, "fuzzingDataParallelism", 0);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    private Map<String, List<String>> runAndCollectFuzzingData() {
+        Map<String, List<String>> fuzzingDataPerPath = new ConcurrentHashMap<>();
+        Mockito.doAnswer(invocation -> {
+            List<FuzzingData> result = (List<FuzzingData>) invocation.callRealMethod();
+            fuzzingDataPerPath.put(invocation.getArgument(0), result.stream()
+                    .map(data -> data.getMethod() + " " + data.getReqSchemaName() + " " + new TreeSet<>(data.getAllFieldsByHttpMethod()) + " " + data.getResponses().keySet())
+                    .toList());
+            return result;
+        }).when(fuzzingDataFactory).fromPathItem(Mockito.any(), Mockito.any(), Mockito.any());
+        catsMain.run();
+        return fuzzingDataPerPath;
+    }
+
     @Test
     void givenAnOpenApiContract_whenStartingCats_thenTheContractIsCorrectlyParsed() throws Exception {
         ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
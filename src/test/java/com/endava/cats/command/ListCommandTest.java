@@ -7,14 +7,20 @@ import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 @QuarkusTest
 class ListCommandTest {
 
@@ -147,6 +153,18 @@ class ListCommandTest {
         Mockito.verify(spyListCommand, Mockito.times(times)).listContractPaths();
     }
 
+    @Test
+    void shouldCacheContractWhenListingPaths(@TempDir Path cacheFolder) throws Exception {
+        ListCommand spyListCommand = Mockito.spy(listCommand);
+        CommandLine commandLine = new CommandLine(spyListCommand);
+        commandLine.execute("-p", "-c", "src/test/resources/openapi.yml", "--contractCache", cacheFolder.toString());
+        Mockito.verify(spyListCommand, Mockito.times(1)).listContractPaths();
+
+        try (Stream<Path> cachedFiles = Files.list(cacheFolder)) {
+            Assertions.assertThat(cachedFiles).isNotEmpty();
+        }
+    }
+
     @Test
     void shouldNotList() {
         ListCommand spyListCommand = Mockito.spy(listCommand);
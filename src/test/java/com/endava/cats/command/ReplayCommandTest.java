@@ -1,21 +1,28 @@
 package com.endava.cats.command;
 
 import com.endava.cats.args.AuthArguments;
+import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.report.TestCaseExporter;
+import com.endava.cats.report.TestCaseExporterHtmlStore;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.JsonUtils;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 @QuarkusTest
@@ -69,6 +76,23 @@ class ReplayCommandTest {
         Mockito.verify(testCaseListener).writeIndividualTestCase(Mockito.any());
     }
 
+    @Test
+    void shouldReadTestCaseFromStoreWhenFileDoesNotExist(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getMaskedHeaders()).thenReturn(Collections.emptySet());
+        TestCaseExporterHtmlStore exporter = new TestCaseExporterHtmlStore(reportingArguments);
+        exporter.initPath(reportFolder.toString());
+        CatsTestCase testCase = JsonUtils.GSON.fromJson(Files.readString(Path.of("src/test/resources/Test12.json")), CatsTestCase.class);
+        exporter.writeTestCase(testCase);
+        replayCommand.tests = new String[]{reportFolder.resolve(testCase.getTestId().replace(" ", "") + ".json").toString()};
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        Mockito.when(response.getBody()).thenReturn("");
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(response);
+        replayCommand.run();
+
+        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.argThat(request -> request.getUrl().equals(testCase.getRequest().getUrl())), Mockito.anySet());
+    }
+
     @Test
     void shouldThrowExceptionWhenTestCasesInvalid() {
         replayCommand.tests = new String[]{"Test1212121212121"};
@@ -0,0 +1,34 @@
+package com.endava.cats.context;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+@QuarkusTest
+class CatsGlobalContextTest {
+
+    @Test
+    void shouldRegisterDiscriminatorsAndAdditionalPropertiesFromAllSchemas() throws Exception {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        OpenAPI openAPI = new OpenAPIParser().readContents(Files.readString(Paths.get("src/test/resources/petstore.yml")), null, options).getOpenAPI();
+        CatsGlobalContext context = new CatsGlobalContext();
+        context.init(openAPI, List.of("application\\/.*\\+?json"), new Properties());
+
+        context.registerDiscriminatorsAndAdditionalProperties(openAPI);
+
+        Assertions.assertThat(context.getDiscriminators()).extracting(Discriminator::getPropertyName).contains("breedType");
+        Assertions.assertThat(context.getDiscriminators()).anyMatch(discriminator -> discriminator.getMapping() != null && discriminator.getMapping().containsKey("Husky"));
+        Assertions.assertThat(context.getAdditionalProperties()).contains("metadata").doesNotContain("owner", "MegaPet");
+    }
+}
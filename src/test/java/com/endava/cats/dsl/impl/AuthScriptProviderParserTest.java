@@ -6,12 +6,25 @@ import com.endava.cats.exception.CatsException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 @QuarkusTest
 class AuthScriptProviderParserTest {
@@ -26,12 +39,28 @@ class AuthScriptProviderParserTest {
         ReflectionTestUtils.setField(authScriptProviderParser, "logger", prettyLogger);
     }
 
+    @AfterEach
+    void tearDown() {
+        authScriptProviderParser.shutdown();
+    }
+
     @Test
     void shouldThrowIOExceptionWhenScriptNotProvided() {
         Map<String, String> context = Map.of();
         Assertions.assertThatThrownBy(() -> authScriptProviderParser.parse(null, context)).isInstanceOf(CatsException.class);
     }
 
+    @Test
+    void shouldScheduleRefreshWithoutOverflowWhenLongInterval() {
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "hostname", Parser.AUTH_REFRESH, "3000000");
+        authScriptProviderParser.parse(null, context);
+        ScheduledFuture<?> scheduledRefresh = (ScheduledFuture<?>) ReflectionTestUtils.getField(authScriptProviderParser, "scheduledRefresh");
+
+        Assertions.assertThat(scheduledRefresh.getDelay(TimeUnit.SECONDS)).isGreaterThan(2_600_000);
+        authScriptProviderParser.shutdown();
+        Assertions.assertThat(scheduledRefresh.isCancelled()).isTrue();
+    }
+
     @Test
     void shouldRunScriptButDontRefresh() {
         Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "hostname");
@@ -42,22 +71,79 @@ class AuthScriptProviderParserTest {
     }
 
     @Test
-    void shouldRefreshOnInterval() throws Exception {
-        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "hostname", Parser.AUTH_REFRESH, "1");
+    void shouldRefreshOnIntervalInBackground(@TempDir Path tempDir) throws Exception {
+        String script = this.counterScript(tempDir);
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script, Parser.AUTH_REFRESH, "1");
 
-        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("1");
         Mockito.verify(prettyLogger, Mockito.times(0)).debug("Refresh interval passed.");
-        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
 
         Thread.sleep(500);
-        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
-        Mockito.verify(prettyLogger, Mockito.times(0)).debug("Refresh interval passed.");
-        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("1");
+        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", script);
 
-        Thread.sleep(600);
-        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isNotBlank();
+        Thread.sleep(1000);
         Mockito.verify(prettyLogger, Mockito.times(1)).debug("Refresh interval passed.");
-        Mockito.verify(prettyLogger, Mockito.times(2)).note("Running script {} to get credentials", "hostname");
+        Mockito.verify(prettyLogger, Mockito.times(2)).note("Running script {} to get credentials", script);
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("2");
+    }
+
+    @Test
+    void shouldRunScriptOnceWhenCalledConcurrently(@TempDir Path tempDir) throws Exception {
+        String script = this.counterScript(tempDir);
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return authScriptProviderParser.parse(null, context);
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            Assertions.assertThat(result.get()).isEqualTo("1");
+        }
+        executor.shutdown();
+        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", script);
+    }
+
+    @Test
+    void shouldRefreshAfterAuthErrors(@TempDir Path tempDir) throws Exception {
+        String script = this.counterScript(tempDir);
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, script, Parser.AUTH_REFRESH_ON_ERRORS, "3");
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("1");
+
+        authScriptProviderParser.onAuthError();
+        authScriptProviderParser.onAuthError();
+        Thread.sleep(300);
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("1");
+
+        authScriptProviderParser.onAuthError();
+        Thread.sleep(500);
+        Mockito.verify(prettyLogger, Mockito.times(1)).debug("Received {} auth errors since last refresh.", 3);
+        Assertions.assertThat(authScriptProviderParser.parse(null, context)).isEqualTo("2");
+    }
+
+    @Test
+    void shouldIgnoreAuthErrorsWhenNotConfigured() {
+        Map<String, String> context = Map.of(Parser.AUTH_SCRIPT, "hostname");
+        authScriptProviderParser.parse(null, context);
+
+        for (int i = 0; i < 10; i++) {
+            authScriptProviderParser.onAuthError();
+        }
+
+        Mockito.verify(prettyLogger, Mockito.times(1)).note("Running script {} to get credentials", "hostname");
+    }
 
+    private String counterScript(Path tempDir) throws Exception {
+        Path counter = tempDir.resolve("counter");
+        Path script = tempDir.resolve("token.sh");
+        Files.writeString(script, "#!/bin/sh\necho x >> " + counter + "\nwc -l < " + counter + " | tr -d ' '\n");
+        Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwx------"));
+        return script.toString();
     }
 }
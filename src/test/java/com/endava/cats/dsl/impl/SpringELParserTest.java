@@ -0,0 +1,74 @@
+package com.endava.cats.dsl.impl;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SpringELParserTest {
+
+    @Test
+    void shouldNotShareVariablesBetweenEvaluations() {
+        SpringELParser parser = new SpringELParser();
+
+        Assertions.assertThat(parser.parse("#token = 'first'", Map.of())).isEqualTo("first");
+        Assertions.assertThat(parser.parse("#token", Map.of())).isEqualTo("#token");
+    }
+
+    @Test
+    void shouldReturnSameResultWhenEvaluatedRepeatedly() {
+        SpringELParser parser = new SpringELParser();
+
+        List<String> results = IntStream.range(0, 300)
+                .mapToObj(i -> parser.parse("name.substring(1,3)", Map.of("name", "john" + i)))
+                .toList();
+
+        Assertions.assertThat(results).containsOnly("oh");
+    }
+
+    @Test
+    void shouldFallBackToInterpretedWhenContextChanges() {
+        SpringELParser parser = new SpringELParser();
+        for (int i = 0; i < 300; i++) {
+            Assertions.assertThat(parser.parse("request.id", Map.of("request", "{\"id\": \"" + i + "\"}"))).isEqualTo(String.valueOf(i));
+        }
+
+        Assertions.assertThat(parser.parse("request.id", Map.of("request", "{\"id\": 5}"))).isEqualTo("5");
+        Assertions.assertThat(parser.parse("id", Map.of("response", "{\"id\": \"7\"}"))).isEqualTo("7");
+        Assertions.assertThat(parser.parse("request.id", Map.of("response", "{}"))).isEqualTo("request.id");
+    }
+
+    @Test
+    void shouldFallBackToResponseWhenKeyMissingAfterWarmUp() {
+        SpringELParser parser = new SpringELParser();
+        for (int i = 0; i < 300; i++) {
+            Assertions.assertThat(parser.parse("token", Map.of("token", "fromContext" + i))).isEqualTo("fromContext" + i);
+        }
+
+        Assertions.assertThat(parser.parse("token", Map.of("response", "{\"token\":\"fromResponse\"}"))).isEqualTo("fromResponse");
+    }
+
+    @Test
+    void shouldReturnExpressionWhenInvalid() {
+        SpringELParser parser = new SpringELParser();
+
+        Assertions.assertThat(parser.parse("T(java.time.OffsetDateTime).nowMe(", Map.of())).isEqualTo("T(java.time.OffsetDateTime).nowMe(");
+        Assertions.assertThat(parser.parse("T(java.time.OffsetDateTime).nowMe(", Map.of())).isEqualTo("T(java.time.OffsetDateTime).nowMe(");
+    }
+
+    @Test
+    void shouldEvaluateConcurrently() {
+        SpringELParser parser = new SpringELParser();
+
+        List<String> results = IntStream.range(0, 500)
+                .parallel()
+                .mapToObj(i -> parser.parse("T(java.lang.Integer).parseInt(value) * 2", Map.of("value", String.valueOf(i))))
+                .toList();
+
+        Assertions.assertThat(results).containsExactlyElementsOf(IntStream.range(0, 500).mapToObj(i -> String.valueOf(i * 2)).toList());
+    }
+}
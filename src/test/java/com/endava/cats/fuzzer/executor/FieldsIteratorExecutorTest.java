@@ -27,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @QuarkusTest
 class FieldsIteratorExecutorTest {
@@ -90,6 +91,19 @@ class FieldsIteratorExecutorTest {
         Mockito.verify(testCaseListener, Mockito.times(4)).skipTest(Mockito.any(), Mockito.anyString());
     }
 
+    @Test
+    void shouldSendRequestsAsyncWhenPipelined() {
+        FieldsIteratorExecutorContext context = setupContextBuilder().expectedResponseCode(ResponseCodeFamilyPredefined.FOURXX).build();
+        Mockito.when(serviceCaller.getPipelineDepth()).thenReturn(3);
+        Mockito.when(serviceCaller.callAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(CatsResponse.from(200, "{}", "POST", 20)));
+        fieldsIteratorExecutor.execute(context);
+
+        Mockito.verify(serviceCaller, Mockito.times(4)).callAsync(Mockito.any());
+        Mockito.verify(serviceCaller, Mockito.never()).call(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).completeTest(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).reportResult(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
+    }
+
     private FieldsIteratorExecutorContext.FieldsIteratorExecutorContextBuilder setupContextBuilder() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Map<String, Schema> schemaMap = new HashMap<>();
@@ -7,6 +7,7 @@ import com.endava.cats.http.ResponseCodeFamilyPredefined;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.Subsets;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
 import io.quarkus.test.junit.QuarkusTest;
@@ -24,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @QuarkusTest
 class RemoveFieldsFuzzerTest {
@@ -50,7 +52,7 @@ class RemoveFieldsFuzzerTest {
     void shouldSkipFuzzerIfSkippedTests() {
         data = Mockito.mock(FuzzingData.class);
         Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.ONEBYONE);
-        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Collections.singleton(Collections.singleton("id")));
+        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Subsets.singletons(Set.of("id")));
         Mockito.when(filterArguments.getSkipFields()).thenReturn(Collections.singletonList("id"));
         removeFieldsFuzzer.fuzz(data);
 
@@ -75,6 +77,17 @@ class RemoveFieldsFuzzerTest {
         Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
     }
 
+    @Test
+    void shouldRunOnlySampledFieldsCombinationsWhenMaxFieldsCombinationsSupplied() {
+        setup("{\"field\":\"oldValue\", \"anotherField\":{\"test\":\"value\"}}");
+        Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.POWERSET);
+        Mockito.when(processingArguments.getMaxFieldsCombinations()).thenReturn(2);
+        removeFieldsFuzzer.fuzz(data);
+
+        Mockito.verify(serviceCaller, Mockito.times(2)).call(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(2)).createAndExecuteTest(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
     @Test
     void givenARemoveFieldsFuzzerInstance_whenCallingTheMethodInheritedFromTheBaseClass_thenTheMethodsAreProperlyOverridden() {
         Assertions.assertThat(removeFieldsFuzzer.description()).isNotNull();
@@ -49,14 +49,14 @@ class HttpMethodsFuzzerTest {
         item.setDelete(new Operation());
         item.setHead(new Operation());
         item.setPut(new Operation());
-        FuzzingData data = FuzzingData.builder().pathItem(item).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(item).build();
         httpMethodsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
 
     @Test
     void givenAnOperation_whenCallingTheHttpMethodsFuzzer_thenResultsAreCorrectlyReported() {
-        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
@@ -66,7 +66,7 @@ class HttpMethodsFuzzerTest {
 
     @Test
     void givenAnOperation_whenCallingTheHttpMethodsFuzzerAndTheServiceResponsesWithA2xx_thenResultsAreCorrectlyReported() {
-        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(200).httpMethod("POST").build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
@@ -40,7 +40,7 @@ class NonRestHttpMethodsFuzzerTest {
 
     @Test
     void shouldCallServiceAndReportErrorWhenServiceRespondsWith200() {
-        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(200).httpMethod("POST").build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
@@ -50,7 +50,7 @@ class NonRestHttpMethodsFuzzerTest {
 
     @Test
     void shouldCallServiceAndReportInfoWhenServiceRespondsWith405() {
-        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(405).httpMethod("POST").build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
@@ -60,7 +60,7 @@ class NonRestHttpMethodsFuzzerTest {
 
     @Test
     void shouldCallServiceAndReportWarnWhenServiceRespondsWith400() {
-        FuzzingData data = FuzzingData.builder().pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData data = FuzzingData.builder().path("/test").pathItem(new PathItem()).reqSchema(new StringSchema()).requestContentTypes(List.of("application/json")).build();
         CatsResponse catsResponse = CatsResponse.builder().body("{}").responseCode(400).httpMethod("POST").build();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(catsResponse);
 
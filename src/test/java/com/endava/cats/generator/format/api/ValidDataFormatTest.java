@@ -4,6 +4,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -35,4 +36,40 @@ class ValidDataFormatTest {
         List<ValidDataFormatGenerator> validDataFormatList = validDataFormat.getGenerators(schema, "");
         Assertions.assertThat(validDataFormatList).hasSize(1);
     }
+
+    @Test
+    void shouldReturnCachedGeneratorsForSameFormatAndProperty() {
+        Schema<?> schema = new Schema<>();
+        schema.setFormat("unknown");
+
+        List<ValidDataFormatGenerator> first = validDataFormat.getGenerators(schema, "other#city");
+        List<ValidDataFormatGenerator> second = validDataFormat.getGenerators(schema, "other#city");
+
+        Assertions.assertThat(first).hasSize(1).isSameAs(second);
+    }
+
+    @Test
+    void shouldResolveDeclaredFormatsSameAsScanningAllGenerators() {
+        validDataFormat.generators.stream()
+                .filter(OpenAPIFormat.class::isInstance)
+                .flatMap(generator -> ((OpenAPIFormat) generator).matchingFormats().stream())
+                .forEach(format -> {
+                    Schema<?> schema = new Schema<>();
+                    schema.setFormat(format);
+                    List<ValidDataFormatGenerator> expected = validDataFormat.generators.stream()
+                            .filter(generator -> generator.appliesTo(format, ""))
+                            .toList();
+
+                    Assertions.assertThat(validDataFormat.getGenerators(schema, "")).containsExactlyElementsOf(expected);
+                    Assertions.assertThat(validDataFormat.getGenerators(schema, null)).containsExactlyElementsOf(expected);
+                });
+    }
+
+    @Test
+    void shouldReturnVoidGeneratorWhenNoneApplies() {
+        Schema<?> schema = new Schema<>();
+        schema.setFormat("unknown");
+
+        Assertions.assertThat(validDataFormat.generate(schema, "unknownProperty")).isNull();
+    }
 }
@@ -0,0 +1,103 @@
+package com.endava.cats.generator.simple;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class GeneratedValuesPoolTest {
+    private static final String PATTERN = "^(?=.*\\d)[A-Z]{3}\\d{3}$";
+    private GeneratedValuesPool pool;
+
+    @BeforeEach
+    void setup() {
+        pool = new GeneratedValuesPool(10, MoreExecutors.newDirectExecutorService());
+    }
+
+    @AfterEach
+    void tearDown() {
+        StringGenerator.useValuesPool(null);
+        pool.close();
+    }
+
+    @Test
+    void shouldFillPoolsForNestedSchemaPatterns() {
+        Schema<?> withLengths = new StringSchema().pattern(PATTERN).minLength(6).maxLength(7);
+        Schema<?> withoutLengths = new StringSchema().pattern("[a-z]+");
+        Schema<?> itemsSchema = new ArraySchema().items(new StringSchema().pattern("\\d+"));
+        Schema<?> objectSchema = new ObjectSchema().addProperty("code", withLengths).addProperty("name", withoutLengths).addProperty("list", itemsSchema);
+
+        pool.warmUp(List.of(objectSchema, new StringSchema()));
+
+        Assertions.assertThat(pool.available(PATTERN, 6, 6)).isEqualTo(10);
+        Assertions.assertThat(pool.available("[a-z]+", 1, 2000)).isEqualTo(10);
+        Assertions.assertThat(pool.available("\\d+", 1, 2000)).isEqualTo(10);
+        Assertions.assertThat(pool.available("[a-z]+", 1, 50)).isEqualTo(10);
+        Assertions.assertThat(pool.available(PATTERN, 1, 50)).isZero();
+        Assertions.assertThat(pool.available(PATTERN, 1, 2000)).isZero();
+    }
+
+    @ParameterizedTest
+    @MethodSource("schemasWithPattern")
+    void shouldTakeFromPoolWhenGeneratingValueBasedOnMinMax(Schema<?> schema) {
+        pool.warmUp(List.of(schema));
+        StringGenerator.useValuesPool(pool);
+        StringGenerator.LengthBounds bounds = StringGenerator.lengthBounds(schema);
+
+        Assertions.assertThat(StringGenerator.generateValueBasedOnMinMax(schema)).matches(schema.getPattern());
+        Assertions.assertThat(pool.available(schema.getPattern(), bounds.min(), bounds.max())).isEqualTo(9);
+    }
+
+    static Stream<Schema<?>> schemasWithPattern() {
+        return Stream.of(new StringSchema().pattern(PATTERN), new StringSchema().pattern(PATTERN).minLength(6).maxLength(7),
+                new StringSchema().pattern("[a-z]+").maxLength(20));
+    }
+
+    @Test
+    void shouldTakeMatchingValuesAndRefillWhenHalfEmpty() {
+        pool.createPool(PATTERN, 6, 6);
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThat(pool.take(PATTERN, 6, 6)).matches(PATTERN);
+        }
+        Assertions.assertThat(pool.available(PATTERN, 6, 6)).isEqualTo(6);
+
+        Assertions.assertThat(pool.take(PATTERN, 6, 6)).matches(PATTERN);
+        Assertions.assertThat(pool.available(PATTERN, 6, 6)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldGenerateOnTheSpotWhenNoPool() {
+        Assertions.assertThat(pool.take("[0-9]{4}", 4, 4)).matches("[0-9]{4}");
+        Assertions.assertThat(pool.available("[0-9]{4}", 4, 4)).isZero();
+    }
+
+    @Test
+    void shouldNotPoolPatternsWhichCannotBeGenerated() {
+        pool.createPool("[a-z]\\b[a-z]", 1, 10);
+
+        Assertions.assertThat(pool.available("[a-z]\\b[a-z]", 1, 10)).isZero();
+        Assertions.assertThatThrownBy(() -> pool.take("[a-z]\\b[a-z]", 1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldUsePoolWhenGeneratingStrings() {
+        pool.createPool(PATTERN, 1, 2000);
+        StringGenerator.useValuesPool(pool);
+
+        Assertions.assertThat(StringGenerator.generate(PATTERN, 1, 2000)).matches(PATTERN);
+        Assertions.assertThat(pool.available(PATTERN, 1, 2000)).isEqualTo(9);
+    }
+}
@@ -0,0 +1,157 @@
+package com.endava.cats.io;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.ConnectException;
+import java.net.ProtocolException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+@QuarkusTest
+class AdaptiveRateLimiterTest {
+    private static final Offset<Double> PRECISION = Offset.offset(0.001);
+    private AdaptiveRateLimiter adaptiveRateLimiter;
+
+    @BeforeEach
+    void setup() {
+        adaptiveRateLimiter = new AdaptiveRateLimiter(RateLimiter.create(100), 1, 100, 500);
+    }
+
+    @Test
+    void shouldStartFromMinimumRate() {
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(1, PRECISION);
+    }
+
+    @Test
+    void shouldDoubleRateWhileResponseTimeUnderTargetBeforeFirstBackOff() {
+        this.recordWindow(200);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(2, PRECISION);
+
+        this.recordWindow(200);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(4, PRECISION);
+    }
+
+    @Test
+    void shouldIncreaseRateAdditivelyAfterBackOff() {
+        this.recordWindows(5, 200);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(32, PRECISION);
+
+        adaptiveRateLimiter.onResponse(429, 10, null);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(16, PRECISION);
+
+        this.recordWindows(2, 200);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(21, PRECISION);
+    }
+
+    @Test
+    void shouldBackOffOnlyOncePerWindow() {
+        this.recordWindows(3, 200);
+
+        adaptiveRateLimiter.onResponse(503, 10, null);
+        adaptiveRateLimiter.onResponse(429, 10, null);
+
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(4, PRECISION);
+    }
+
+    @Test
+    void shouldDecreaseRateWhenPercentileOverTarget() {
+        this.recordWindows(3, 200);
+        for (int i = 0; i < AdaptiveRateLimiter.WINDOW_SIZE - 2; i++) {
+            adaptiveRateLimiter.onResponse(200, 100, null);
+        }
+        adaptiveRateLimiter.onResponse(200, 900, null);
+        adaptiveRateLimiter.onResponse(200, 900, null);
+
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(6.4, PRECISION);
+    }
+
+    @Test
+    void shouldIgnoreSingleSlowResponseInWindow() {
+        for (int i = 0; i < AdaptiveRateLimiter.WINDOW_SIZE - 1; i++) {
+            adaptiveRateLimiter.onResponse(200, 100, null);
+        }
+        adaptiveRateLimiter.onResponse(200, 5000, null);
+
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(2, PRECISION);
+    }
+
+    @Test
+    void shouldKeepRateBetweenMinimumAndMaximum() {
+        this.recordWindows(20, 200);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(100, PRECISION);
+
+        this.recordWindows(30, 2000);
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(1, PRECISION);
+    }
+
+    @Test
+    void shouldBackOffOnConnectionErrors() {
+        this.recordWindows(3, 200);
+
+        adaptiveRateLimiter.onFailure(new ConnectException("Connection refused"));
+
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(4, PRECISION);
+    }
+
+    @Test
+    void shouldNotBackOffOnOtherErrors() {
+        this.recordWindows(3, 200);
+
+        adaptiveRateLimiter.onFailure(new ProtocolException("unexpected status line"));
+
+        Assertions.assertThat(adaptiveRateLimiter.getRate()).isEqualTo(8, PRECISION);
+    }
+
+    @Test
+    void shouldPauseRequestsWhenRetryAfterReceived() {
+        adaptiveRateLimiter.onResponse(429, 10, "1");
+
+        long start = System.currentTimeMillis();
+        adaptiveRateLimiter.acquire();
+
+        Assertions.assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(900);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"120,120000", "0,0", "-5,0", "invalid,0", "' ',0", "null,0", "9223372036854775807,9223372036854775807", "99999999999999999999,0"}, nullValues = "null")
+    void shouldParseRetryAfterSeconds(String retryAfter, long expected) {
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryAfter, 0)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldParseRetryAfterDate() {
+        ZonedDateTime now = ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        String retryAfter = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(30));
+
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryAfter, now.toInstant().toEpochMilli())).isEqualTo(30000);
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryAfter, now.plusMinutes(1).toInstant().toEpochMilli())).isZero();
+    }
+
+    @Test
+    void shouldCapPauseWhenRetryAfterIsHuge() {
+        adaptiveRateLimiter.onResponse(429, 10, String.valueOf(Long.MAX_VALUE));
+
+        Assertions.assertThat((long) ReflectionTestUtils.getField(adaptiveRateLimiter, "pausedUntilMillis")).isLessThanOrEqualTo(System.currentTimeMillis() + 60_000);
+    }
+
+    private void recordWindows(int windows, long responseTimeInMs) {
+        for (int i = 0; i < windows; i++) {
+            this.recordWindow(responseTimeInMs);
+        }
+    }
+
+    private void recordWindow(long responseTimeInMs) {
+        for (int i = 0; i < AdaptiveRateLimiter.WINDOW_SIZE; i++) {
+            adaptiveRateLimiter.onResponse(200, responseTimeInMs, null);
+        }
+    }
+}
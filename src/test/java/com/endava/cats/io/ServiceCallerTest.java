@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
@@ -62,6 +63,7 @@ class ServiceCallerTest {
         wireMockServer.stubFor(WireMock.get("/pets/1").willReturn(WireMock.aResponse().withBody("{'pet':'pet'}")));
         wireMockServer.stubFor(WireMock.get("/pets/1?limit=2").willReturn(WireMock.aResponse().withBody("{'pet':'pet'}")));
         wireMockServer.stubFor(WireMock.get("/pets/999?id=1").willReturn(WireMock.aResponse().withBody("{'pet':'pet'}")));
+        wireMockServer.stubFor(WireMock.get("/pets/slow").willReturn(WireMock.aResponse().withFixedDelay(500).withBody("{'pet':'pet'}")));
         wireMockServer.stubFor(WireMock.get("/pets/fault/reset").willReturn(WireMock.aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
         wireMockServer.stubFor(WireMock.get("/pets/fault/empty").willReturn(WireMock.aResponse().withFault(Fault.EMPTY_RESPONSE)));
         wireMockServer.stubFor(WireMock.get("/pets/fault/malformed").willReturn(WireMock.aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK)));
@@ -118,6 +120,23 @@ class ServiceCallerTest {
         Assertions.assertThat(t1 - t0).isGreaterThan(3900);
     }
 
+    @Test
+    void shouldApplyPerPathRateLimits() throws Exception {
+        ReflectionTestUtils.setField(filesArguments, "rateLimitsFile", new File("src/test/resources/rateLimits.yml"));
+        filesArguments.loadRateLimits();
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        long t0 = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").contractPath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.HEAD)
+                    .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        }
+        long t1 = System.currentTimeMillis();
+
+        Assertions.assertThat(t1 - t0).isGreaterThan(190);
+    }
+
     @Test
     void shouldNotSetRateLimiter() {
         serviceCaller.initRateLimiter();
@@ -134,6 +153,32 @@ class ServiceCallerTest {
         Assertions.assertThat(t1 - t0).isLessThan(1000);
     }
 
+    @Test
+    void shouldConfigureConnectionPoolAndDispatcher() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 100);
+        serviceCaller.initHttpClient();
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(100);
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequests()).isEqualTo(100);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 5);
+    }
+
+    @Test
+    void shouldCallServiceWhenMaxInFlightLimited() {
+        ReflectionTestUtils.setField(apiArguments, "maxInFlight", 1);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        CatsResponse first = serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.HEAD)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        CatsResponse second = serviceCaller.call(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.HEAD)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThat(first.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(second.getResponseCode()).isEqualTo(200);
+        ReflectionTestUtils.setField(apiArguments, "maxInFlight", 0);
+    }
+
     @Test
     void givenAServer_whenDoingADeleteCall_thenProperDetailsAreBeingReturned() {
         serviceCaller.initHttpClient();
@@ -186,6 +231,60 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldCallServiceAsync() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'pet':'pet'}");
+    }
+
+    @Test
+    void shouldKeepLoggingContextWhenCallingAsync() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        /* dispatcher threads inherit the logging context when created, so a thread is created first, before the context is set */
+        serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/1").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+        MDC.put("asyncKey", "asyncValue");
+
+        try {
+            String contextValue = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/slow").httpMethod(HttpMethod.GET)
+                            .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build())
+                    .thenApply(catsResponse -> MDC.get("asyncKey")).join();
+
+            Assertions.assertThat(contextValue).isEqualTo("asyncValue");
+        } finally {
+            MDC.remove("asyncKey");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/empty,952,empty reply from server"})
+    void shouldHandleIOExceptionsWhenCallingAsync(String path, String responseCode, String expectedBody) {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.callAsync(ServiceData.builder().relativePath(path).httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo(responseCode);
+        Assertions.assertThat(catsResponse.getBody()).contains(expectedBody);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,1", "0,1", "5,5"})
+    void shouldReturnPipelineDepth(int pipelineDepth, int expected) {
+        ReflectionTestUtils.setField(apiArguments, "pipelineDepth", pipelineDepth);
+
+        Assertions.assertThat(serviceCaller.getPipelineDepth()).isEqualTo(expected);
+        ReflectionTestUtils.setField(apiArguments, "pipelineDepth", 1);
+    }
+
     @Test
     void shouldNotConvertToUrlFormEncodedWhenError() {
         serviceCaller.initHttpClient();
@@ -413,6 +512,34 @@ class ServiceCallerTest {
         Assertions.assertThat(headerNames).doesNotContain("header", "catsFuzzedHeader").contains("simpleHeader", "jwt");
     }
 
+    @Test
+    void shouldRefreshSuppliedHeadersWhenHeadersAreReloaded() throws Exception {
+        ServiceData data = ServiceData.builder().headers(Set.of()).contentType("application/json").build();
+        List<KeyValuePair<String, Object>> initialHeaders = serviceCaller.buildHeaders(data);
+
+        filesArguments.setHeadersMap(Map.of("header", "newValue", "envHeader", "$$PATH"));
+        filesArguments.loadHeaders();
+        List<KeyValuePair<String, Object>> reloadedHeaders = serviceCaller.buildHeaders(data);
+
+        Assertions.assertThat(initialHeaders).extracting(KeyValuePair::getValue).contains("value").doesNotContain("newValue");
+        Assertions.assertThat(reloadedHeaders).extracting(KeyValuePair::getValue).contains("newValue", System.getenv("PATH")).doesNotContain("value");
+    }
+
+    @Test
+    void shouldReplaceSuppliedHeadersCaseInsensitive() {
+        ServiceData data = ServiceData.builder()
+                .headers(List.of(CatsHeader.builder().name("HEADER").value("first").build(),
+                        CatsHeader.builder().name("header").value("second").build(),
+                        CatsHeader.builder().name("other").value("other").build()))
+                .contentType("application/json").build();
+
+        List<KeyValuePair<String, Object>> headers = serviceCaller.buildHeaders(data);
+
+        Assertions.assertThat(headers).filteredOn(header -> header.getKey().equalsIgnoreCase("header"))
+                .hasSize(2).extracting(KeyValuePair::getValue).containsOnly("value");
+        Assertions.assertThat(headers).filteredOn(header -> header.getKey().equals("other")).hasSize(1);
+    }
+
     @Test
     void shouldPreserverNumberOfHeadersWhenHeaderSuppliedAndPresentInOpenApi() {
         ServiceData data = ServiceData.builder()
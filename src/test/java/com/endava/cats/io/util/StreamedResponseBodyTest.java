@@ -0,0 +1,59 @@
+package com.endava.cats.io.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class StreamedResponseBodyTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "test", "{\"key\": \"value\"}", "first line\nsecond line", "first\r\nsecond\r\n\r\n", "\n\nthird", "\n", "  spaces \t and\ttabs  ", "ünïcödé wörds\nȘtring"})
+    void shouldComputeSameMetricsAsFullString(String content) throws Exception {
+        StreamedResponseBody responseBody = StreamedResponseBody.read(ResponseBody.create(content, MediaType.parse("application/json")), 0);
+
+        Assertions.assertThat(responseBody.body()).isEqualTo(content);
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(responseBody.numberOfWords()).isEqualTo(new StringTokenizer(content).countTokens());
+        Assertions.assertThat(responseBody.numberOfLines()).isEqualTo(content.split("[\r\n]").length);
+        Assertions.assertThat(responseBody.truncated()).isFalse();
+    }
+
+    @Test
+    void shouldTruncateBodyButCountAllBytes() throws Exception {
+        String content = "word ".repeat(5000);
+        StreamedResponseBody responseBody = StreamedResponseBody.read(ResponseBody.create(content, MediaType.parse("text/plain")), 10);
+
+        Assertions.assertThat(responseBody.body()).isEqualTo("word word ");
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isEqualTo(25000);
+        Assertions.assertThat(responseBody.numberOfWords()).isEqualTo(5000);
+        Assertions.assertThat(responseBody.truncated()).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"abcd€x,5,abcd", "abcd€x,6,abcd", "abcd€x,7,abcd€", "ab😀cd,3,ab", "ab😀cd,5,ab", "ab😀cd,6,ab😀", "aȘb,2,a", "aȘb,3,aȘ"})
+    void shouldNotSplitMultiByteCharacterWhenTruncating(String content, long maxBytes, String expected) throws Exception {
+        StreamedResponseBody responseBody = StreamedResponseBody.read(ResponseBody.create(content, MediaType.parse("application/json")), maxBytes);
+
+        Assertions.assertThat(responseBody.body()).isEqualTo(expected).doesNotContain("\uFFFD");
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(responseBody.truncated()).isTrue();
+    }
+
+    @Test
+    void shouldReturnEmptyBodyWhenNull() throws Exception {
+        StreamedResponseBody responseBody = StreamedResponseBody.read(null, 0);
+
+        Assertions.assertThat(responseBody.body()).isEmpty();
+        Assertions.assertThat(responseBody.contentLengthInBytes()).isZero();
+        Assertions.assertThat(responseBody.numberOfLines()).isEqualTo(1);
+    }
+}
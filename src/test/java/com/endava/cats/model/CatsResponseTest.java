@@ -1,5 +1,7 @@
 package com.endava.cats.model;
 
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonElement;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,56 @@ class CatsResponseTest {
         Assertions.assertThat(catsResponse.getJsonBody()).isNotNull();
     }
 
+    @Test
+    void shouldParseJsonBodyLazilyAndOnlyOnce() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("{\"test\": \"value\"}").build();
+        long parsesBefore = CatsResponse.getJsonBodyParseCount();
+
+        JsonElement first = catsResponse.getJsonBody();
+        JsonElement second = catsResponse.getJsonBody();
+
+        Assertions.assertThat(first.getAsJsonObject().get("test").getAsString()).isEqualTo("value");
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(CatsResponse.getJsonBodyParseCount()).isEqualTo(parsesBefore + 1);
+    }
+
+    @Test
+    void shouldWrapNonJsonBodyWhenParsingLazily() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("<html>test</html>").build();
+
+        Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
+    }
+
+    @Test
+    void shouldSerializeLazyJsonBody() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("{\"test\": \"value\"}").build();
+
+        String json = JsonUtils.GSON.toJson(catsResponse);
+
+        Assertions.assertThat(json).contains("\"jsonBody\"").contains("\"test\": \"value\"");
+    }
+
+    @Test
+    void shouldSerializeValidJsonBodyWithoutParsingIt() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("{\"test\": [1, \"a\\u0062\"]}").build();
+        long parsesBefore = CatsResponse.getJsonBodyParseCount();
+
+        String json = JsonUtils.GSON.toJson(catsResponse);
+
+        Assertions.assertThat(CatsResponse.getJsonBodyParseCount()).isEqualTo(parsesBefore);
+        Assertions.assertThat(JsonUtils.GSON.fromJson(json, CatsResponse.class).getJsonBody().getAsJsonObject().getAsJsonArray("test").get(1).getAsString()).isEqualTo("ab");
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"<html>test</html>", "[1, 2", "{\"test\": 1} {}", "\"text\""}, delimiter = '|')
+    void shouldParseNonJsonBodyWhenSerializing(String body) {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body(body).build();
+
+        String json = JsonUtils.GSON.toJson(catsResponse);
+
+        Assertions.assertThat(JsonUtils.GSON.fromJson(json, CatsResponse.class).getJsonBody().getAsJsonObject().has("notAJson")).isTrue();
+    }
+
     @ParameterizedTest
     @CsvSource({"100,0,false", "100,1000,false", "100,100,false", "1000,100,true"})
     void shouldTestResponseTimeExceeding(int responseTime, int maxResponseTime, boolean expected) {
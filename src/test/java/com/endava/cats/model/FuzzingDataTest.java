@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @QuarkusTest
 class FuzzingDataTest {
@@ -169,19 +170,29 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
-        Assertions.assertThat(setOfFields).hasSize(15);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
+        Set<Set<String>> expected = FuzzingData.SetFuzzingStrategy.powerSet(this.getFieldNames(data));
+        expected.remove(Set.of());
+
+        Assertions.assertThat(setOfFields).hasSize(15).containsExactlyInAnyOrderElementsOf(expected);
     }
 
     @ParameterizedTest
-    @CsvSource({"1,4", "2,10", "3,14", "4,15"})
-    void shouldGetBasedOnSize(int maxSizeToRemove, int expected) {
+    @CsvSource({"0,10,2", "1,4,1", "2,10,2", "3,14,3", "4,15,4", "10,15,4"})
+    void shouldGetBasedOnSize(int maxSizeToRemove, int expected, int expectedMaxSize) {
         ObjectSchema baseSchema = new ObjectSchema();
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
-        Assertions.assertThat(setOfFields).hasSize(expected);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
+        Set<Set<String>> expectedSets = FuzzingData.SetFuzzingStrategy.powerSet(this.getFieldNames(data));
+        expectedSets.removeIf(set -> set.isEmpty() || set.size() > expectedMaxSize);
+
+        Assertions.assertThat(setOfFields).hasSize(expected).containsExactlyInAnyOrderElementsOf(expectedSets);
+    }
+
+    private Set<String> getFieldNames(FuzzingData data) {
+        return data.getAllFieldsAsCatsFields().stream().map(CatsField::getName).collect(Collectors.toSet());
     }
 
     @Test
@@ -200,31 +211,6 @@ class FuzzingDataTest {
         Assertions.assertThat(contentTypes).containsOnly("application/json");
     }
 
-    @Test
-    void shouldReturnSetOfSetsWithHalfSize() {
-        Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 0);
-        Assertions.assertThat(allSets).hasSize(10)
-                .contains(Set.of("a"), Set.of("b"), Set.of("a", "b"))
-                .doesNotContain(Set.of("a", "b", "c", "d"));
-    }
-
-    @Test
-    void shouldReturnSizeOfInitialSetWhenMaxFieldToRemoveBiggerThanSize() {
-        Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 10);
-        Assertions.assertThat(allSets).hasSize(15).contains(Set.of("a"), Set.of("b"), Set.of("a", "b", "c", "d"));
-    }
-
-    @Test
-    void shouldReturnSetsUpToMaxFieldToRemove() {
-        Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 3);
-        Assertions.assertThat(allSets).hasSize(14)
-                .contains(Set.of("a"), Set.of("b"), Set.of("a", "b", "c"))
-                .doesNotContain(Set.of("a", "b", "c", "d"));
-    }
-
     public Map<String, Schema> getBasePropertiesRequired() {
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("address", new StringSchema());
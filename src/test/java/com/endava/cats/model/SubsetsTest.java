@@ -0,0 +1,105 @@
+package com.endava.cats.model;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SubsetsTest {
+
+    @Test
+    void shouldReturnAllNonEmptySubsets() {
+        Subsets<String> subsets = Subsets.all(Set.of("a", "b", "c", "d"));
+
+        Assertions.assertThat(subsets.count()).isEqualTo(BigInteger.valueOf(15));
+        Assertions.assertThat(subsets).hasSize(15).doesNotHaveDuplicates()
+                .contains(Set.of("a"), Set.of("a", "b"), Set.of("a", "b", "c", "d"))
+                .doesNotContain(Set.of());
+    }
+
+    @Test
+    void shouldMatchPowerSetWithoutEmptySet() {
+        Set<String> fields = Set.of("a", "b", "c", "d", "e");
+        Set<Set<String>> expected = FuzzingData.SetFuzzingStrategy.powerSet(fields);
+        expected.remove(Set.of());
+
+        Assertions.assertThat(Subsets.all(fields)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,4", "2,10", "3,14", "4,15", "10,15", "0,0"})
+    void shouldReturnSubsetsUpToSize(int maxSize, int expected) {
+        Subsets<String> subsets = Subsets.upToSize(Set.of("a", "b", "c", "d"), maxSize);
+
+        Assertions.assertThat(subsets.count()).isEqualTo(BigInteger.valueOf(expected));
+        Assertions.assertThat(subsets).hasSize(expected).doesNotHaveDuplicates()
+                .allMatch(subset -> !subset.isEmpty() && subset.size() <= maxSize);
+    }
+
+    @Test
+    void shouldReturnSingletons() {
+        Assertions.assertThat(Subsets.singletons(Set.of("a", "b", "c")))
+                .containsExactlyInAnyOrder(Set.of("a"), Set.of("b"), Set.of("c"));
+    }
+
+    @Test
+    void shouldEnumerateLazilyWhenTooManySubsets() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().toList();
+        Subsets<Integer> subsets = Subsets.all(elements);
+        Iterator<Set<Integer>> iterator = subsets.iterator();
+
+        Assertions.assertThat(subsets.count()).isEqualTo(BigInteger.TWO.pow(100).subtract(BigInteger.ONE));
+        Assertions.assertThat(iterator.next()).hasSize(100);
+        Assertions.assertThat(iterator.next()).hasSize(99);
+    }
+
+    @Test
+    void shouldSampleDistinctSubsets() {
+        List<Integer> elements = IntStream.range(0, 60).boxed().toList();
+        Iterable<Set<Integer>> sample = Subsets.upToSize(elements, 30).sample(500, new Random(1));
+
+        List<Set<Integer>> sampled = new ArrayList<>();
+        sample.forEach(sampled::add);
+        Assertions.assertThat(sampled).hasSize(500).doesNotHaveDuplicates()
+                .allMatch(subset -> !subset.isEmpty() && subset.size() <= 30);
+    }
+
+    @Test
+    void shouldSampleAllSubsetsWhenSampleSizeCoversThemAll() {
+        Subsets<String> subsets = Subsets.all(Set.of("a", "b", "c"));
+
+        Assertions.assertThat(subsets.sample(7, new Random(1))).isSameAs(subsets);
+        Assertions.assertThat(subsets.sample(0, new Random(1))).isSameAs(subsets);
+    }
+
+    @Test
+    void shouldEventuallySampleEverySubset() {
+        Iterable<Set<String>> sample = Subsets.all(Set.of("a", "b", "c", "d")).sample(14, new Random(1));
+        Set<Set<String>> sampled = new HashSet<>();
+        sample.forEach(sampled::add);
+
+        Assertions.assertThat(sampled).hasSize(14);
+        Assertions.assertThat(sampled.stream().map(Set::size).collect(Collectors.toSet())).containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldThrowWhenNoMoreSubsets() {
+        Iterator<Set<String>> iterator = Subsets.singletons(Set.of("a")).iterator();
+        iterator.next();
+
+        Assertions.assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+}
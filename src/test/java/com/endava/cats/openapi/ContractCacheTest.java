@@ -0,0 +1,68 @@
+package com.endava.cats.openapi;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.core.util.Json;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@QuarkusTest
+class ContractCacheTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"openapi.yml", "petstore.yml", "petstore31.yaml", "issue98.json", "nswag_gen_oneof.json", "gusto.yaml", "baserow.yaml"})
+    void shouldReturnSameModelFromCacheAsParser(String contract, @TempDir Path cacheFolder) throws Exception {
+        String location = "src/test/resources/" + contract;
+        OpenApiParseResult parsed = OpenApiUtils.readAsParseResult(location, cacheFolder.toString());
+        OpenApiParseResult cached = OpenApiUtils.readAsParseResult(location, cacheFolder.toString());
+
+        Assertions.assertThat(cacheFolder).isNotEmptyDirectory();
+        Assertions.assertThat(cached).isNotSameAs(parsed);
+        Assertions.assertThat(cached.getVersion()).isEqualTo(parsed.getVersion());
+        Assertions.assertThat(cached.getSwaggerParseResult().getMessages()).isEqualTo(parsed.getSwaggerParseResult().getMessages());
+        Assertions.assertThat(Json.pretty(cached.getSwaggerParseResult().getOpenAPI())).isEqualTo(Json.pretty(parsed.getSwaggerParseResult().getOpenAPI()));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenContractNotCached(@TempDir Path cacheFolder) {
+        Optional<OpenApiParseResult> result = new ContractCache(cacheFolder, "src/test/resources/petstore.yml").read();
+
+        Assertions.assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreCorruptedCacheEntry(@TempDir Path cacheFolder) throws Exception {
+        String location = "src/test/resources/petstore.yml";
+        Files.writeString(cacheFolder.resolve(ContractCache.computeKey(location) + ".json"), "not a cache entry");
+
+        OpenApiParseResult result = OpenApiUtils.readAsParseResult(location, cacheFolder.toString());
+
+        Assertions.assertThat(result.getSwaggerParseResult().getOpenAPI()).isNotNull();
+        Assertions.assertThat(new ContractCache(cacheFolder, location).read()).isPresent();
+    }
+
+    @Test
+    void shouldChangeKeyWhenReferencedFileChanges(@TempDir Path contractFolder) throws Exception {
+        Path contract = contractFolder.resolve("contract.yml");
+        Path schemas = contractFolder.resolve("schemas.yml");
+        Files.writeString(contract, "components:\n  schemas:\n    Pet:\n      $ref: 'schemas.yml#/Pet'\n");
+        Files.writeString(schemas, "Pet:\n  type: string\n");
+        String initialKey = ContractCache.computeKey(contract.toString());
+
+        Files.writeString(schemas, "Pet:\n  type: integer\n");
+
+        Assertions.assertThat(ContractCache.computeKey(contract.toString())).isNotEqualTo(initialKey);
+    }
+
+    @Test
+    void shouldNotCacheRemoteContracts() {
+        Assertions.assertThat(ContractCache.isCacheable("http://localhost/openapi.yml")).isFalse();
+        Assertions.assertThat(ContractCache.isCacheable("src/test/resources/petstore.yml")).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class AsyncTestCaseWriterTest {
+
+    @Test
+    void shouldWriteAllTestCasesWhenClosed() {
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter, 2);
+        for (int i = 0; i < 100; i++) {
+            writer.submit(new CatsTestCase());
+        }
+        writer.close();
+
+        Mockito.verify(exporter, Mockito.times(100)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldKeepWritingWhenExporterFails() {
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        Mockito.doThrow(new IllegalStateException("failed")).doNothing().when(exporter).writeTestCase(Mockito.any());
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter, 10);
+        writer.submit(new CatsTestCase());
+        writer.submit(new CatsTestCase());
+        writer.close();
+
+        Mockito.verify(exporter, Mockito.times(2)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldWriteSynchronouslyAfterClose() {
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter, 10);
+        writer.close();
+        writer.submit(new CatsTestCase());
+
+        Mockito.verify(exporter, Mockito.times(1)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldWriteTestCasesSubmittedWhileClosing() {
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CompletableFuture<?>[] submits = IntStream.range(0, 500)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> writer.submit(new CatsTestCase()), executor))
+                .toArray(CompletableFuture[]::new);
+        writer.close();
+        CompletableFuture.allOf(submits).join();
+        executor.shutdown();
+
+        Mockito.verify(exporter, Mockito.times(500)).writeTestCase(Mockito.any());
+    }
+}
@@ -0,0 +1,57 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.TimeExecutionDetails;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class ExecutionTimeStatisticsTest {
+
+    @Test
+    void shouldAggregatePerHttpMethodAndPath() {
+        ExecutionTimeStatistics statistics = new ExecutionTimeStatistics(false);
+        statistics.record("Test 1", "/path", "POST", 10);
+        statistics.record("Test 2", "/path", "POST", 30);
+        statistics.record("Test 3", "/path", "POST", 20);
+        statistics.record("Test 4", "/path", "GET", 5);
+
+        List<TimeExecutionDetails> details = statistics.getExecutionDetails();
+
+        Assertions.assertThat(details).hasSize(1);
+        TimeExecutionDetails post = details.get(0);
+        Assertions.assertThat(post.getPath()).isEqualTo("POST /path");
+        Assertions.assertThat(post.getAverage()).isEqualTo(20);
+        Assertions.assertThat(post.getBestCase().getTestId()).isEqualTo("Test 1");
+        Assertions.assertThat(post.getWorstCase().getTestId()).isEqualTo("Test 2");
+        Assertions.assertThat(post.getPercentile50()).isEqualTo(20);
+        Assertions.assertThat(post.getPercentile999()).isEqualTo(30);
+        Assertions.assertThat(post.getExecutions()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepExecutionsSortedByResponseTimeWhenRequested() {
+        ExecutionTimeStatistics statistics = new ExecutionTimeStatistics(true);
+        statistics.record("Test 1", "/path", "POST", 10);
+        statistics.record("Test 2", "/path", "POST", 30);
+        statistics.record("Test 3", "/path", "POST", 20);
+
+        TimeExecutionDetails details = statistics.getExecutionDetails().get(0);
+
+        Assertions.assertThat(details.getExecutions()).extracting("testId").containsExactly("Test 1", "Test 3", "Test 2");
+    }
+
+    @Test
+    void shouldKeepPercentilesWithinBestAndWorstCase() {
+        ExecutionTimeStatistics statistics = new ExecutionTimeStatistics(false);
+        statistics.record("Test 1", "/path", "POST", 1000);
+        statistics.record("Test 2", "/path", "POST", 1001);
+
+        TimeExecutionDetails details = statistics.getExecutionDetails().get(0);
+
+        Assertions.assertThat(details.getPercentile50()).isBetween(1000L, 1001L);
+        Assertions.assertThat(details.getPercentile99()).isEqualTo(1001);
+    }
+}
@@ -0,0 +1,53 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@QuarkusTest
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertThat(histogram.valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        Assertions.assertThat(histogram.valueAtPercentile(50)).isEqualTo(5);
+        Assertions.assertThat(histogram.valueAtPercentile(90)).isEqualTo(9);
+        Assertions.assertThat(histogram.valueAtPercentile(100)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldComputePercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(i);
+        }
+
+        Assertions.assertThat(histogram.valueAtPercentile(50)).isBetween(5000L, 5000L + 5000 / 32);
+        Assertions.assertThat(histogram.valueAtPercentile(99)).isBetween(9900L, 9900L + 9900 / 32);
+        Assertions.assertThat(histogram.valueAtPercentile(99.9)).isBetween(9990L, 9990L + 9990 / 32);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 31, 32, 33, 63, 64, 1000, 123456, Long.MAX_VALUE})
+    void shouldMapValueToBucketHoldingIt(long value) {
+        int index = LatencyHistogram.bucketIndex(value);
+
+        Assertions.assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+        if (index > 0) {
+            Assertions.assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+        }
+    }
+}
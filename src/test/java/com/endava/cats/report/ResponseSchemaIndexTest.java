@@ -0,0 +1,53 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+@QuarkusTest
+class ResponseSchemaIndexTest {
+
+    @Test
+    void shouldCollectNestedFieldNames() {
+        ResponseSchemaIndex index = ResponseSchemaIndex.compile("""
+                {"id": 1, "petDetails": {"Name": "cat", "tags": [{"tagId": 2}]}}
+                """);
+
+        Assertions.assertThat(index.fieldNames()).containsExactlyInAnyOrder("id", "petdetails", "name", "tags", "tagid");
+        Assertions.assertThat(index.array()).isFalse();
+        Assertions.assertThat(index.isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldDetectArraySchema() {
+        ResponseSchemaIndex index = ResponseSchemaIndex.compile("[{\"id\": 1}]");
+
+        Assertions.assertThat(index.array()).isTrue();
+        Assertions.assertThat(index.fieldNames()).containsOnly("id");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NAME,true", "tagId,true", "na,false", "cat,true", "2,true", "missing,false"})
+    void shouldMatchFieldNamesAndValues(String name, boolean expected) {
+        ResponseSchemaIndex index = ResponseSchemaIndex.compile("{\"name\": \"cat\", \"tagId\": 2}");
+
+        Assertions.assertThat(index.mentions(name)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFallbackToSubstringSearchWhenSchemaNotJson() {
+        ResponseSchemaIndex index = ResponseSchemaIndex.compile("not a json with field");
+
+        Assertions.assertThat(index.fieldNames()).isEmpty();
+        Assertions.assertThat(index.mentions("field")).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void shouldReturnEmptyIndexWhenNoSchema(String schema) {
+        Assertions.assertThat(ResponseSchemaIndex.compile(schema).isEmpty()).isTrue();
+    }
+}
@@ -119,6 +119,25 @@ class TestCaseListenerTest {
         Assertions.assertThat(testCase.getScenario()).isEqualTo("Given a string field");
     }
 
+    @Test
+    void shouldCompleteStartedTestsInTestIdOrder() {
+        String firstTestId = testCaseListener.startTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "First scenario"));
+        String secondTestId = testCaseListener.startTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "Second scenario"));
+
+        Assertions.assertThat(MDC.get("id")).isNull();
+        Assertions.assertThat(Integer.parseInt(secondTestId)).isEqualTo(Integer.parseInt(firstTestId) + 1);
+
+        testCaseListener.completeTest(firstTestId, logger, fuzzer, () -> testCaseListener.addContractPath("first"));
+        testCaseListener.completeTest(secondTestId, logger, fuzzer, () -> testCaseListener.addContractPath("second"));
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(2);
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(0).getScenario()).isEqualTo("First scenario");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(0).getPath()).isEqualTo("first");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(1).getScenario()).isEqualTo("Second scenario");
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(1).getPath()).isEqualTo("second");
+        Assertions.assertThat(MDC.get("id")).isNull();
+    }
+
     @Test
     void givenATestCase_whenExecutingStartAndEndSession_thenTheSummaryAndReportFilesAreCreated() {
         ReflectionTestUtils.setField(testCaseListener, "appName", "CATS");
@@ -129,6 +148,45 @@ class TestCaseListenerTest {
         Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.anyList(), Mockito.any());
     }
 
+    @Test
+    void shouldWriteTestCasesInBackgroundAndFlushThemOnEndSession() {
+        Mockito.when(reportingArguments.getReportWriterQueueSize()).thenReturn(1);
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        ReflectionTestUtils.setField(testCaseListener, "appName", "CATS");
+        testCaseListener.startSession();
+        for (int i = 0; i < 5; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+                testCaseListener.reportWarn(logger, "Warn {} happened", "1");
+            });
+        }
+        testCaseListener.endSession();
+
+        Mockito.verify(testCaseExporter, Mockito.times(5)).writeTestCase(Mockito.any());
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).hasSize(5);
+    }
+
+    @Test
+    void shouldStoreSummariesOnDiskAndWriteThemSortedOnEndSession() {
+        Mockito.when(reportingArguments.isStoreSummariesOnDisk()).thenReturn(true);
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        ReflectionTestUtils.setField(testCaseListener, "appName", "CATS");
+        testCaseListener.startSession();
+        for (int i = 0; i < 3; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+                testCaseListener.reportWarn(logger, "Warn {} happened", "1");
+            });
+        }
+        List<List<CatsTestCaseSummary>> writtenSummaries = new ArrayList<>();
+        Mockito.doAnswer(invocation -> writtenSummaries.add(List.copyOf(invocation.getArgument(0))))
+                .when(testCaseExporter).writeSummary(Mockito.anyList(), Mockito.any());
+        testCaseListener.endSession();
+
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+        Assertions.assertThat(writtenSummaries.get(0)).hasSize(3).isSorted();
+    }
+
     @Test
     void givenATestCase_whenExecutingItAndAWarnHappens_thenTheWarnIsCorrectlyReportedWithinTheTestCase() {
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
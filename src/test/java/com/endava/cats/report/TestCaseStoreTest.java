@@ -0,0 +1,44 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@QuarkusTest
+class TestCaseStoreTest {
+
+    @Test
+    void shouldReadBackTestCaseJsonByKey(@TempDir Path folder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(folder)) {
+            store.append("Test1", "<html>first</html>", "{\"testId\":\"Test 1\"}");
+            store.append("Test2", "<html>second</html>", "{\"testId\":\"Test 2\"}");
+        }
+
+        Assertions.assertThat(TestCaseStore.readTestCaseJson(folder, "Test2")).contains("{\"testId\":\"Test 2\"}");
+        Assertions.assertThat(TestCaseStore.readTestCaseJson(folder, "Test1")).contains("{\"testId\":\"Test 1\"}");
+        Assertions.assertThat(TestCaseStore.readTestCaseJson(folder, "Test3")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenFolderHasNoStore(@TempDir Path folder) throws Exception {
+        Assertions.assertThat(TestCaseStore.readTestCaseJson(folder, "Test1")).isEmpty();
+    }
+
+    @Test
+    void shouldWriteOneIndexLinePerTestCase(@TempDir Path folder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(folder)) {
+            store.append("Test1", "<html>first</html>", "{}");
+            store.append("Test2", "<html>second</html>", "{}");
+        }
+
+        List<String> indexLines = Files.readAllLines(folder.resolve(TestCaseStore.INDEX_FILE));
+        Assertions.assertThat(indexLines).hasSize(2);
+        Assertions.assertThat(indexLines.get(0)).startsWith("{\"id\":\"Test1\",\"htmlOffset\":4,");
+        Assertions.assertThat(Files.size(folder.resolve(TestCaseStore.STORE_FILE))).isPositive();
+    }
+}
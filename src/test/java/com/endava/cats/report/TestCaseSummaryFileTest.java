@@ -0,0 +1,41 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.model.CatsTestCaseSummary;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class TestCaseSummaryFileTest {
+
+    @Test
+    void shouldReadSummariesBackSortedByTestId() throws Exception {
+        try (TestCaseSummaryFile summaryFile = new TestCaseSummaryFile()) {
+            summaryFile.add(summary("Test 10", "third"));
+            summaryFile.add(summary("Test 2", "second"));
+            summaryFile.add(summary("Test 1", "first \"quoted\" ünicode"));
+
+            List<CatsTestCaseSummary> summaries = summaryFile.sortedSummaries();
+
+            Assertions.assertThat(summaryFile.size()).isEqualTo(3);
+            Assertions.assertThat(summaries).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2", "Test 10");
+            Assertions.assertThat(summaries.get(0).getScenario()).isEqualTo("first \"quoted\" ünicode");
+            Assertions.assertThat(summaries.get(2)).isEqualTo(summary("Test 10", "third"));
+        }
+    }
+
+    private static CatsTestCaseSummary summary(String id, String scenario) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(id);
+        testCase.setScenario(scenario);
+        testCase.setResult("success");
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        testCase.setResponse(CatsResponse.builder().responseTimeInMs(10).build());
+        return CatsTestCaseSummary.fromCatsTestCase(testCase);
+    }
+}
@@ -0,0 +1,59 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class BoundedCacheTest {
+
+    @Test
+    void shouldComputeValueOnlyOnce() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        AtomicInteger computations = new AtomicInteger();
+
+        String first = cache.get("key", key -> key + computations.incrementAndGet());
+        String second = cache.get("key", key -> key + computations.incrementAndGet());
+
+        Assertions.assertThat(first).isEqualTo(second).isEqualTo("key1");
+        Assertions.assertThat(cache.getHits()).isEqualTo(1);
+        Assertions.assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictOldestEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.get("first", String::toUpperCase);
+        cache.get("second", String::toUpperCase);
+        cache.get("first", String::toUpperCase);
+        cache.get("third", String::toUpperCase);
+
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        cache.get("second", String::toUpperCase);
+        Assertions.assertThat(cache.getHits()).isEqualTo(2);
+        cache.get("first", String::toUpperCase);
+        Assertions.assertThat(cache.getMisses()).isEqualTo(4);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotExceedMaxSizeWhenUsedConcurrently() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10);
+
+        IntStream.range(0, 10_000).parallel().forEach(key -> cache.get(key % 100, String::valueOf));
+
+        Assertions.assertThat(cache.size()).isLessThanOrEqualTo(10);
+        Assertions.assertThat(cache.getHits() + cache.getMisses()).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldNotCacheNullValues() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.get("key", key -> null);
+
+        Assertions.assertThat(cache.size()).isZero();
+    }
+}
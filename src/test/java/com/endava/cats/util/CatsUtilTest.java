@@ -1,6 +1,5 @@
 package com.endava.cats.util;
 
-import com.endava.cats.model.FuzzingData;
 import com.endava.cats.strategy.FuzzingStrategy;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
@@ -9,27 +8,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.io.File;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 @QuarkusTest
 class CatsUtilTest {
 
-    @Test
-    void givenASetAndMinSize_whenGettingAllSetsWithMinSize_thenAllSubsetsAreProperlyReturned() {
-        Set<String> data = new HashSet<>(Arrays.asList("a", "b", "c"));
-        Set<Set<String>> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
-
-        Assertions.assertThat(sets)
-                .isNotEmpty()
-                .containsExactlyInAnyOrder(Collections.singleton("a"), Collections.singleton("b"), Collections.singleton("c"),
-                        new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(Arrays.asList("a", "c")), new HashSet<>(Arrays.asList("b", "c")));
-
-    }
-
     @ParameterizedTest
     @CsvSource(value = {"{\"field\":\"value\", \"anotherField\":\"otherValue\"}|field",
             "{\"field\": 2, \"anotherField\":\"otherValue\"}|field",
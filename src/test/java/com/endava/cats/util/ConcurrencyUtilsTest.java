@@ -0,0 +1,40 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@QuarkusTest
+class ConcurrencyUtilsTest {
+
+    @Test
+    void shouldCreateWorkingExecutor() throws Exception {
+        ExecutorService executorService = ConcurrencyUtils.newVirtualThreadPerTaskExecutor(2);
+        Future<String> result = executorService.submit(() -> "done");
+
+        Assertions.assertThat(result.get()).isEqualTo("done");
+        executorService.shutdown();
+    }
+
+    @Test
+    void shouldDetectVirtualThreadsSupportBasedOnRuntime() {
+        boolean expected = Runtime.version().feature() >= 21;
+
+        Assertions.assertThat(ConcurrencyUtils.areVirtualThreadsSupported()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFallBackToBoundedPoolWhenVirtualThreadsNotSupported() {
+        Assumptions.assumeFalse(ConcurrencyUtils.areVirtualThreadsSupported());
+        ExecutorService executorService = ConcurrencyUtils.newVirtualThreadPerTaskExecutor(3);
+
+        Assertions.assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+        Assertions.assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize()).isEqualTo(3);
+        executorService.shutdown();
+    }
+}
@@ -218,4 +218,16 @@ class JsonUtilsTest {
                 "anArray[0].arrKey1",
                 "anArray[1].arrKey2");
     }
+
+    @Test
+    void shouldReuseSanitizedJsonPath() {
+        String payload = "{\"field\":\"value\", \"anotherField\":{\"cachedSubfield\": \"otherValue\"}}";
+
+        Object first = JsonUtils.getVariableFromJson(payload, "anotherField#cachedSubfield");
+        Object second = JsonUtils.getVariableFromJson(payload, "anotherField#cachedSubfield");
+
+        Assertions.assertThat(first).isEqualTo(second).isEqualTo("otherValue");
+        Assertions.assertThat(JsonUtils.sanitizeToJsonPath("anotherField#cachedSubfield")).isEqualTo("anotherField.cachedSubfield")
+                .isSameAs(JsonUtils.sanitizeToJsonPath("anotherField#cachedSubfield"));
+    }
 }
@@ -0,0 +1,88 @@
+package com.endava.cats.util;
+
+import com.endava.cats.strategy.FuzzingStrategy;
+import com.jayway.jsonpath.DocumentContext;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Map;
+
+@QuarkusTest
+class PayloadTemplateTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"field\":\"value\", \"anotherField\":\"otherValue\"}|field",
+            "{\"field\": 2, \"anotherField\":\"otherValue\"}|field",
+            "[{\"field\": 2, \"anotherField\":\"otherValue\"},{\"field\": 2, \"anotherField\":\"otherValue\"}]|field",
+            "{\"field\": {\"subField\":\"value\"}, \"anotherField\":\"otherValue\"}|field#subField",
+            "{\"field\": [{\"subField\":\"value\"},{\"subField\":\"value\"}], \"anotherField\":\"otherValue\"}|field[*]#subField",
+            "{\"field\": [\"a\",\"b\"], \"anotherField\":\"otherValue\"}|field"}, delimiter = '|')
+    void shouldReplaceFieldSameAsWhenParsingThePayload(String json, String path) {
+        PayloadTemplate template = PayloadTemplate.of(json);
+
+        FuzzingResult fromString = FuzzingStrategy.replaceField(json, path, FuzzingStrategy.replace().withData("fuzzed"));
+        FuzzingResult fromTemplate = FuzzingStrategy.replaceField(template, path, FuzzingStrategy.replace().withData("fuzzed"), false);
+
+        Assertions.assertThat(fromTemplate.json()).isEqualTo(fromString.json());
+        Assertions.assertThat(fromTemplate.fuzzedValue()).isEqualTo(fromString.fuzzedValue());
+    }
+
+    @Test
+    void shouldNotModifyTemplateWhenReplacingFields() {
+        String json = "{\"field\": {\"subField\":\"value\"}, \"items\": [{\"subField\":\"value\"},{\"subField\":\"value\"}]}";
+        PayloadTemplate template = PayloadTemplate.of(json);
+
+        FuzzingResult first = FuzzingStrategy.replaceField(template, "field#subField", FuzzingStrategy.replace().withData("first"), false);
+        FuzzingResult second = CatsUtil.justReplaceField(template, "items[*]#subField", "second");
+
+        Assertions.assertThat(first.json()).contains("\"subField\":\"first\"").doesNotContain("second");
+        Assertions.assertThat(second.json()).contains("\"subField\":\"second\"").doesNotContain("first");
+        Assertions.assertThat((String) template.read("$.field.subField")).isEqualTo("value");
+        Assertions.assertThat((String) template.read("$.items[1].subField")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldShareUntouchedBranchesWithTemplate() {
+        PayloadTemplate template = PayloadTemplate.of("{\"field\": {\"subField\":\"value\"}, \"other\": {\"subField\":\"value\"}}");
+
+        DocumentContext document = template.documentForUpdate("$.field.subField");
+
+        Assertions.assertThat((Map<?, ?>) document.read("$.other")).isSameAs(template.read("$.other"));
+        Assertions.assertThat((Map<?, ?>) document.read("$.field")).isNotSameAs(template.read("$.field"));
+    }
+
+    @Test
+    void shouldCopyEntireDocumentWhenPathDoesNotExist() {
+        PayloadTemplate template = PayloadTemplate.of("{\"field\": {\"subField\":\"value\"}}");
+
+        DocumentContext document = template.documentForUpdate("$.field.newField");
+        document.put("$.field", "newField", "newValue");
+
+        Assertions.assertThat(document.jsonString()).contains("newValue");
+        Assertions.assertThat((Map<String, Object>) template.read("$.field")).doesNotContainKey("newField");
+    }
+
+    @Test
+    void shouldHandleRootArrays() {
+        PayloadTemplate template = PayloadTemplate.of("[{\"field\": 1},{\"field\": 2}]");
+
+        FuzzingResult result = CatsUtil.justReplaceField(template, "field", 3);
+
+        Assertions.assertThat(template.isArray()).isTrue();
+        Assertions.assertThat(result.json()).isEqualTo("[{\"field\":3},{\"field\":3}]");
+        Assertions.assertThat((Integer) template.read("$[1].field")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnEmptyResultForBlankPayload() {
+        PayloadTemplate template = PayloadTemplate.of("  ");
+
+        FuzzingResult result = FuzzingStrategy.replaceField(template, "field", FuzzingStrategy.replace().withData("fuzzed"), false);
+
+        Assertions.assertThat(template.isBlank()).isTrue();
+        Assertions.assertThat(result.json()).isEmpty();
+    }
+}
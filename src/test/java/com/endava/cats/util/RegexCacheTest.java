@@ -0,0 +1,40 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.cornutum.regexpgen.random.RandomBoundsGen;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.regex.PatternSyntaxException;
+
+@QuarkusTest
+class RegexCacheTest {
+
+    @Test
+    void shouldReturnSameCompiledPattern() {
+        Assertions.assertThat(RegexCache.pattern("[a-z]{3}")).isSameAs(RegexCache.pattern("[a-z]{3}"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"abc,[a-z]{3},true", "abcd,[a-z]{3},false", "ab1,^[a-z0-9]+$,true", "'',.*,true"})
+    void shouldMatchLikeStringMatches(String value, String regex, boolean expected) {
+        Assertions.assertThat(RegexCache.matches(value, regex)).isEqualTo(value.matches(regex)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldThrowAndNotCacheInvalidPattern() {
+        Assertions.assertThatThrownBy(() -> RegexCache.pattern("[a-z")).isInstanceOf(PatternSyntaxException.class);
+        Assertions.assertThatThrownBy(() -> RegexCache.matches("a", "[a-z")).isInstanceOf(PatternSyntaxException.class);
+    }
+
+    @Test
+    void shouldReturnSameGeneratorsGeneratingMatchingValues() {
+        Assertions.assertThat(RegexCache.rgxGen("[A-Z]{2}\\d{4}")).isSameAs(RegexCache.rgxGen("[A-Z]{2}\\d{4}"));
+        Assertions.assertThat(RegexCache.regExpGen("[A-Z]{2}\\d{4}")).isSameAs(RegexCache.regExpGen("[A-Z]{2}\\d{4}"));
+
+        Assertions.assertThat(RegexCache.rgxGen("[A-Z]{2}\\d{4}").generate()).matches("[A-Z]{2}\\d{4}");
+        Assertions.assertThat(RegexCache.regExpGen("[A-Z]{2}\\d{4}").generate(new RandomBoundsGen(), 6, 6)).matches("[A-Z]{2}\\d{4}");
+    }
+}
@@ -0,0 +1,110 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+@QuarkusTest
+class WordListRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        WordListRegistry.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"first\nsecond\n", "first\r\nsecond", "first\rsecond\n\nthird\n", "\n\nlast", "", "single", "ünïcödé\n  \nmixed\r\n"})
+    void shouldReturnSameLinesAsReadAllLines(String content, @TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), content);
+
+        Assertions.assertThat(WordListRegistry.lines(file)).containsExactlyElementsOf(Files.readAllLines(file));
+    }
+
+    @Test
+    void shouldSkipBlankAndCommentLines(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "# comment\n\n   \nfirst\n#second\n \n# \nthird");
+
+        Assertions.assertThat(WordListRegistry.words(file, "# ")).containsExactly("first", "#second", "third");
+        Assertions.assertThat(WordListRegistry.words(file, "#")).containsExactly("first", "third");
+    }
+
+    @Test
+    void shouldReturnSameViewWhenFileNotChanged(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "first\nsecond");
+
+        List<String> words = WordListRegistry.words(file, "#");
+
+        Assertions.assertThat(WordListRegistry.words(folder.resolve("../" + folder.getFileName() + "/words.txt"), "#")).isSameAs(words);
+    }
+
+    @Test
+    void shouldReloadWhenFileChanges(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "first\nsecond");
+        List<String> initial = WordListRegistry.lines(file);
+
+        Files.writeString(file, "third");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        Assertions.assertThat(WordListRegistry.lines(file)).isNotSameAs(initial).containsExactly("third");
+    }
+
+    @Test
+    void shouldBeReadOnly(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "first\nsecond");
+        List<String> lines = WordListRegistry.lines(file);
+
+        Assertions.assertThatThrownBy(() -> lines.add("third")).isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(() -> lines.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldKeepSmallFilesUsableWhenFileIsDeleted(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "first\nsecond");
+        List<String> lines = WordListRegistry.lines(file);
+
+        Files.delete(file);
+
+        Assertions.assertThat(lines).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldReadBigFilesFromDisk(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "# comment\r\nfirst\n\n".repeat(WordListRegistry.HEAP_COPY_MAX_SIZE / 20 + 1) + "last");
+
+        Assertions.assertThat(WordListRegistry.lines(file)).containsExactlyElementsOf(Files.readAllLines(file));
+        Assertions.assertThat(WordListRegistry.words(file, "#")).hasSize(WordListRegistry.HEAP_COPY_MAX_SIZE / 20 + 2).endsWith("first", "last");
+    }
+
+    @Test
+    void shouldReportFailureWhenBigFileIsTruncated(@TempDir Path folder) throws Exception {
+        Path file = Files.writeString(folder.resolve("words.txt"), "word\n".repeat(WordListRegistry.HEAP_COPY_MAX_SIZE / 5 + 1));
+        List<String> lines = WordListRegistry.lines(file);
+        Assertions.assertThat(lines.get(lines.size() - 1)).isEqualTo("word");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+
+        Assertions.assertThatThrownBy(() -> lines.get(lines.size() - 1))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("truncated or removed while in use");
+    }
+
+    @Test
+    void shouldThrowWhenFileDoesNotExist(@TempDir Path folder) {
+        Assertions.assertThatThrownBy(() -> WordListRegistry.words(folder.resolve("missing.txt"), "#")).isInstanceOf(NoSuchFileException.class);
+    }
+}